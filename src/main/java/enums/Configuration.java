@@ -1,29 +1,62 @@
 package enums;
 
+import exceptions.ConfigurationException;
+
 /**
- * enum to represent the different configuration options.
+ * enum to represent the different configuration options and the type their values are converted
+ * to.
  */
 public enum Configuration {
-  ACTION_TIMEOUT("actionTimeout"),
-  ASSERTION_TIMEOUT("assertionTimeout"),
-  BASE_URL("baseURL"),
-  BROWSER("browser"),
-  ENVIRONMENT("environment"),
-  HEADLESS("headless"),
-  INDIVIDUAL_TEST_TIMEOUT("individualTestTimeoutInMinutes"),
-  LOG_TO_FILE_ON_FAILURE("logToFileOnFailure"),
-  LOG_TO_FILE_ALWAYS("logToFileAlways"),
-  MINIMUM_LOG_LEVEL_CONSOLE("minimumLogLevelConsole"),
-  MINIMUM_LOG_LEVEL_FILE("minimumLogLevelFile"),
-  NAVIGATION_TIMEOUT("navigationTimeout"),
-  TRACE_ALWAYS("traceAlways"),
-  TRACE_ON_FAILURE("traceOnFailure"),
-  VIDEO_ALWAYS("videoAlways");
+  ACTION_TIMEOUT("actionTimeout", Integer.class),
+  ASSERTION_TIMEOUT("assertionTimeout", Integer.class),
+  ASYNC_LOG_OVERFLOW_POLICY("asyncLogOverflowPolicy", String.class),
+  ASYNC_LOG_QUEUE_CAPACITY("asyncLogQueueCapacity", Integer.class),
+  BASE_URL("baseURL", String.class),
+  BROWSER("browser", String.class),
+  BROWSER_MEMORY_ESTIMATE("browserMemoryEstimateMb", Integer.class),
+  BROWSER_RECYCLE_LIMIT("browserRecycleAfterScenarios", Integer.class),
+  CAPTURE_PAGE_LOAD_METRICS("capturePageLoadMetrics", Boolean.class),
+  ENVIRONMENT("environment", String.class),
+  FLIGHT_RECORDING("flightRecording", Boolean.class),
+  FOLLOWED_BY_RERUNS("followedByReruns", Boolean.class),
+  HEADLESS("headless", Boolean.class),
+  INDIVIDUAL_TEST_TIMEOUT("individualTestTimeoutInMinutes", Integer.class),
+  IN_RUN_RETRIES("inRunRetries", Integer.class),
+  LOG_TO_FILE_ON_FAILURE("logToFileOnFailure", Boolean.class),
+  LOG_TO_FILE_ALWAYS("logToFileAlways", Boolean.class),
+  MAX_CONCURRENT_BROWSER_LAUNCHES("maxConcurrentBrowserLaunches", Integer.class),
+  MAX_PARALLELISM("maxParallelism", Integer.class),
+  MEASURE_BROWSER_MEMORY("measureBrowserMemory", Boolean.class),
+  MEMORY_RESERVE("memoryReserveMb", Integer.class),
+  MINIMUM_LOG_LEVEL_CONSOLE("minimumLogLevelConsole", String.class),
+  MINIMUM_LOG_LEVEL_FILE("minimumLogLevelFile", String.class),
+  NAVIGATION_TIMEOUT("navigationTimeout", Integer.class),
+  NAVIGATION_WAIT_UNTIL("navigationWaitUntil", String.class),
+  PERFORMANCE_BASELINE_FILE("performanceBaselineFile", String.class),
+  PERFORMANCE_BASELINE_RUNS("performanceBaselineRuns", Integer.class),
+  PERFORMANCE_BUDGET_ACTION("performanceBudgetAction", String.class),
+  PERFORMANCE_REGRESSION_THRESHOLD("performanceRegressionThresholdPercent", Integer.class),
+  PREWARM_WORKERS("prewarmWorkers", Boolean.class),
+  RESOURCE_LIMITS("resourceLimits", String.class),
+  RETRYABLE_FAILURES("retryableFailures", String.class),
+  SCENARIO_DURATION_HISTORY_FILE("scenarioDurationHistoryFile", String.class),
+  SCENARIO_LOG_BUFFER_SIZE("scenarioLogBufferSize", Integer.class),
+  SHARD_COUNT("shardCount", Integer.class),
+  SHARD_INDEX("shardIndex", Integer.class),
+  SKIP_NAVIGATION_IF_ON_PAGE("skipNavigationIfOnPage", Boolean.class),
+  STEP_TIMEOUT("individualStepTimeoutInSeconds", Integer.class),
+  STEP_TIMEOUT_OVERRIDES("stepTimeoutOverrides", String.class),
+  STRUCTURED_RUN_LOG("structuredRunLog", Boolean.class),
+  TRACE_ALWAYS("traceAlways", Boolean.class),
+  TRACE_ON_FAILURE("traceOnFailure", Boolean.class),
+  VIDEO_ALWAYS("videoAlways", Boolean.class);
 
   private final String property;
+  private final Class<?> type;
 
-  Configuration(String property) {
+  Configuration(String property, Class<?> type) {
     this.property = property;
+    this.type = type;
   }
 
   /**
@@ -34,4 +67,41 @@ public enum Configuration {
   public String getProperty() {
     return this.property;
   }
+
+  /**
+   * Gets the type values of this configuration are converted to, one of {@link String},
+   * {@link Integer} or {@link Boolean}.
+   *
+   * @return the type of the configuration value.
+   */
+  public Class<?> getType() {
+    return this.type;
+  }
+
+  /**
+   * Converts a configured value to the type of this configuration.
+   *
+   * @param value The configured value.
+   * @return The converted value.
+   * @throws ConfigurationException if the value cannot be converted to the type.
+   */
+  public Object convert(String value) {
+    var trimmed = value.trim();
+    if (type == Integer.class) {
+      try {
+        return Integer.valueOf(trimmed);
+      } catch (NumberFormatException e) {
+        throw new ConfigurationException(
+            String.format("Configuration %s must be an integer but was '%s'", property, value), e);
+      }
+    }
+    if (type == Boolean.class) {
+      if (!trimmed.equalsIgnoreCase("true") && !trimmed.equalsIgnoreCase("false")) {
+        throw new ConfigurationException(
+            "Configuration %s must be true or false but was '%s'", property, value);
+      }
+      return Boolean.valueOf(trimmed);
+    }
+    return value;
+  }
 }
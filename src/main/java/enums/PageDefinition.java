@@ -2,10 +2,16 @@ package enums;
 
 import exceptions.ConfigurationException;
 import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import playwright.navigation.PerformanceBudget;
 import playwright.pages.BasePage;
 import playwright.pages.ExamplePage;
+import playwright.pages.PageRegistry;
 
 
 /**
@@ -13,10 +19,19 @@ import playwright.pages.ExamplePage;
  */
 public enum PageDefinition {
 
-  HOME_PAGE("Home", ExamplePage.class);
+  HOME_PAGE("Home", ExamplePage.class, PerformanceBudget.none()
+      .maxLoad(Duration.ofSeconds(5))
+      .maxLargestContentfulPaint(Duration.ofSeconds(4)));
+
+  private static final Map<String, PageDefinition> BY_NAME = Arrays.stream(values())
+      .collect(Collectors.toMap(PageDefinition::getName, Function.identity()));
+  private static final Map<Class<? extends BasePage>, PageDefinition> BY_CLASS =
+      Arrays.stream(values()).collect(Collectors.toMap(
+          PageDefinition::getClassDefinition, Function.identity(), (first, second) -> first));
 
   private final String name;
   private final Class<? extends BasePage> classDefinition;
+  private final PerformanceBudget performanceBudget;
 
   /**
    * Constructs a PageDefinition with the given name and class definition.
@@ -25,8 +40,21 @@ public enum PageDefinition {
    * @param classDefinition The corresponding class definition.
    */
   PageDefinition(String name, Class<? extends BasePage> classDefinition) {
+    this(name, classDefinition, PerformanceBudget.none());
+  }
+
+  /**
+   * Constructs a PageDefinition with the given name, class definition and performance budget.
+   *
+   * @param name              The name of the page.
+   * @param classDefinition   The corresponding class definition.
+   * @param performanceBudget The maximum page load metrics of the page.
+   */
+  PageDefinition(String name, Class<? extends BasePage> classDefinition,
+      PerformanceBudget performanceBudget) {
     this.name = name;
     this.classDefinition = classDefinition;
+    this.performanceBudget = performanceBudget;
   }
 
   /**
@@ -37,9 +65,7 @@ public enum PageDefinition {
    * @throws ConfigurationException if no matching page is found.
    */
   public static PageDefinition get(String pageName) {
-    return Arrays.stream(PageDefinition.values())
-        .filter(x -> x.getName().equals(pageName))
-        .findFirst()
+    return find(pageName)
         .orElseThrow(() -> new ConfigurationException(
             String.format(
                 "No page has been configured in the PageDefinition enum with the name %s."
@@ -48,6 +74,27 @@ public enum PageDefinition {
                     PageDefinition::getName).collect(Collectors.joining(System.lineSeparator())))));
   }
 
+  /**
+   * Finds the PageDefinition with the provided page name.
+   *
+   * @param pageName The name of the page.
+   * @return The corresponding PageDefinition, or empty if no page has been configured with the
+   *     name.
+   */
+  public static Optional<PageDefinition> find(String pageName) {
+    return Optional.ofNullable(BY_NAME.get(pageName));
+  }
+
+  /**
+   * Gets the PageDefinition configured for the provided page class.
+   *
+   * @param classDefinition The page class.
+   * @return The corresponding PageDefinition, or empty if the class has not been configured.
+   */
+  public static Optional<PageDefinition> forClass(Class<?> classDefinition) {
+    return Optional.ofNullable(BY_CLASS.get(classDefinition));
+  }
+
   /**
    * Gets the class definition associated with this PageDefinition.
    *
@@ -68,33 +115,53 @@ public enum PageDefinition {
   }
 
   /**
-   * Casts the class definition to the specified type.
+   * Creates a new instance of the page and casts it to the specified type. The page is created
+   * through its constructor reference in the generated {@link PageRegistry}, or reflectively if
+   * the registry was generated by a compile that did not see it.
    *
    * @param castTo The target class type.
    * @param <T>    The type to cast to.
    * @return An instance of the specified type.
+   * @throws ConfigurationException if the page has no public no-argument constructor.
    */
   public <T> T as(Class<T> castTo) {
-    try {
-      return castTo.cast(getClassDefinition().getDeclaredConstructor().newInstance());
-    } catch (InstantiationException | NoSuchMethodException | InvocationTargetException
-             | IllegalAccessException e) {
-      throw new ConfigurationException("Unable to cast class", e);
+    var constructor = PageRegistry.constructor(getClassDefinition());
+    if (constructor == null) {
+      return castTo.cast(newInstance());
     }
+    return castTo.cast(constructor.get());
   }
 
   /**
-   * Casts the class definition to the specified type, using Constructor with String param.
+   * Creates a new instance of the page, using its constructor with a String parameter, and casts
+   * it to the specified type.
    *
    * @param castTo The target class type.
    * @param arg0   Argument to pass to Constructor.
    * @param <T>    The type to cast to.
    * @return An instance of the specified type.
+   * @throws ConfigurationException if the page has no public constructor taking a String.
    */
   public <T> T as(Class<T> castTo, String arg0) {
+    var constructor = PageRegistry.stringConstructor(getClassDefinition());
+    if (constructor == null) {
+      return castTo.cast(newInstance(arg0));
+    }
+    return castTo.cast(constructor.apply(arg0));
+  }
+
+  /**
+   * Creates a page the generated registry does not know about through its public constructor
+   * matching the arguments.
+   *
+   * @param args The constructor arguments, either none or a single String.
+   * @return The new page object.
+   */
+  private BasePage newInstance(String... args) {
+    var parameterTypes = new Class<?>[args.length];
+    Arrays.fill(parameterTypes, String.class);
     try {
-      return castTo.cast(
-          getClassDefinition().getDeclaredConstructor(String.class).newInstance(arg0));
+      return getClassDefinition().getConstructor(parameterTypes).newInstance((Object[]) args);
     } catch (InstantiationException | NoSuchMethodException | InvocationTargetException
              | IllegalAccessException e) {
       throw new ConfigurationException("Unable to cast class", e);
@@ -109,4 +176,13 @@ public enum PageDefinition {
   public String getName() {
     return name;
   }
+
+  /**
+   * Gets the performance budget of the page.
+   *
+   * @return The performance budget, empty if the page has no budget.
+   */
+  public PerformanceBudget getPerformanceBudget() {
+    return performanceBudget;
+  }
 }
@@ -0,0 +1,39 @@
+package loggers;
+
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * Log handler which hands records to the {@link AsyncLogWriter} together with the scenario, step
+ * and thread they were logged from. Publishing never blocks the logging thread.
+ */
+public class AsyncLogHandler extends Handler {
+
+  private final AsyncLogWriter writer;
+
+  /**
+   * Creates a handler publishing to the shared {@link AsyncLogWriter}.
+   */
+  public AsyncLogHandler() {
+    this.writer = AsyncLogWriter.get();
+  }
+
+  @Override
+  public void publish(LogRecord logRecord) {
+    if (writer.accepts(logRecord.getLevel())) {
+      var context = LogContext.current();
+      writer.offer(new AsyncLogWriter.Entry(logRecord, Thread.currentThread().getName(), context,
+          context == null ? 0 : (System.nanoTime() - context.startNanos()) / 1_000_000));
+    }
+  }
+
+  @Override
+  public void flush() {
+    // Records are flushed by the writer thread
+  }
+
+  @Override
+  public void close() {
+    // The writer is shared and shut down at the end of the run
+  }
+}
@@ -0,0 +1,238 @@
+package loggers;
+
+import com.google.gson.Gson;
+import enums.Configuration;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import playwright.managers.ConfigurationManager;
+
+/**
+ * A single writer thread which formats and writes the log records of every test thread.
+ *
+ * <p>Test threads add records to a lock-free queue and return immediately; formatting and all
+ * console and disk I/O happen on the writer thread. Records at or above
+ * {@code minimumLogLevelConsole} are written to the console. When {@code structuredRunLog} is set,
+ * records at or above {@code minimumLogLevelFile} are also written as JSON lines to
+ * {@code target/logs/run-<run>.jsonl} with the scenario id, thread, step and elapsed time of the
+ * scenario. It is off by default, as the log of a failed scenario is already written by its
+ * {@link RingBufferHandler}.</p>
+ *
+ * <p>The queue holds at most {@code asyncLogQueueCapacity} records. When it is full, the
+ * {@code asyncLogOverflowPolicy} decides whether the new record or the oldest queued record is
+ * dropped, so test threads never block on logging. The number of dropped records is reported when
+ * the writer shuts down.</p>
+ */
+@SuppressWarnings("java:S6548")
+public class AsyncLogWriter {
+
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+  private static AsyncLogWriter instance;
+  private final Queue<Entry> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger size = new AtomicInteger();
+  private final LongAdder dropped = new LongAdder();
+  private final int capacity;
+  private final OverflowPolicy overflowPolicy;
+  private final Level consoleLevel;
+  private final Level fileLevel;
+  private final boolean structuredLog;
+  private final Path logFile;
+  private final DeferredFormatter consoleFormatter = new DeferredFormatter();
+  private final Gson gson = new Gson();
+  private final Thread writerThread;
+  private BufferedWriter fileWriter;
+  private volatile boolean running = true;
+
+  /**
+   * What to drop when a record is logged while the queue is full.
+   */
+  public enum OverflowPolicy {
+    DROP_NEWEST, DROP_OLDEST
+  }
+
+  /**
+   * A record queued for writing, with the context it was logged from.
+   *
+   * @param logRecord     The record.
+   * @param thread        The name of the thread which logged the record.
+   * @param context       The scenario and step the thread was running, or null.
+   * @param elapsedMillis The time since the scenario started.
+   */
+  public record Entry(LogRecord logRecord, String thread, LogContext context, long elapsedMillis) {
+
+  }
+
+  private AsyncLogWriter() {
+    var configuration = ConfigurationManager.get().configuration();
+    capacity = configuration.asInteger(Configuration.ASYNC_LOG_QUEUE_CAPACITY, 10_000);
+    overflowPolicy = OverflowPolicy.valueOf(configuration.asString(
+        Configuration.ASYNC_LOG_OVERFLOW_POLICY, OverflowPolicy.DROP_NEWEST.name()).toUpperCase());
+    consoleLevel = Level.parse(
+        configuration.asString(Configuration.MINIMUM_LOG_LEVEL_CONSOLE, "INFO"));
+    fileLevel = Level.parse(configuration.asString(Configuration.MINIMUM_LOG_LEVEL_FILE, "INFO"));
+    structuredLog = configuration.asFlag(Configuration.STRUCTURED_RUN_LOG, false);
+    logFile = Path.of("target", "logs", String.format("run-%s.jsonl",
+        LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))));
+    writerThread = Thread.ofPlatform().name("log-writer").daemon().start(this::run);
+    Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown));
+  }
+
+  /**
+   * Retrieves the singleton instance of the AsyncLogWriter, starting the writer thread on first
+   * use.
+   *
+   * @return The AsyncLogWriter instance.
+   */
+  public static synchronized AsyncLogWriter get() {
+    if (instance == null) {
+      instance = new AsyncLogWriter();
+    }
+    return instance;
+  }
+
+  /**
+   * Checks whether a record of the given level would be written to the console or the structured
+   * log.
+   *
+   * @param level The level of the record.
+   * @return true if the record should be queued.
+   */
+  public boolean accepts(Level level) {
+    var value = level.intValue();
+    return value >= consoleLevel.intValue()
+        || structuredLog && value >= fileLevel.intValue();
+  }
+
+  /**
+   * Queues a record for writing without blocking, applying the overflow policy if the queue is
+   * full.
+   *
+   * @param entry The record to write.
+   */
+  public void offer(Entry entry) {
+    if (size.incrementAndGet() > capacity) {
+      // Either the new record or the oldest queued record takes the place of the new record
+      size.decrementAndGet();
+      dropped.increment();
+      if (overflowPolicy == OverflowPolicy.DROP_NEWEST || queue.poll() == null) {
+        return;
+      }
+    }
+    queue.offer(entry);
+  }
+
+  /**
+   * Writes every queued record and stops the writer thread.
+   */
+  public void shutdown() {
+    if (!running) {
+      return;
+    }
+    running = false;
+    LockSupport.unpark(writerThread);
+    try {
+      writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (dropped.sum() > 0) {
+      System.err.printf("%d log records were dropped as the log queue was full%n", dropped.sum());
+    }
+  }
+
+  private void run() {
+    while (running || !queue.isEmpty()) {
+      var entry = queue.poll();
+      if (entry == null) {
+        flush();
+        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        continue;
+      }
+      size.decrementAndGet();
+      write(entry);
+    }
+    flush();
+    close();
+  }
+
+  private void write(Entry entry) {
+    var level = entry.logRecord().getLevel().intValue();
+    if (level >= consoleLevel.intValue()) {
+      System.err.print(consoleFormatter.format(entry.logRecord()));
+    }
+    if (structuredLog && level >= fileLevel.intValue()) {
+      try {
+        fileWriter().write(gson.toJson(toJson(entry)));
+        fileWriter().newLine();
+      } catch (IOException e) {
+        System.err.printf("Unable to write to %s: %s%n", logFile, e.getMessage());
+      }
+    }
+  }
+
+  private LinkedHashMap<String, Object> toJson(Entry entry) {
+    var logRecord = entry.logRecord();
+    var json = new LinkedHashMap<String, Object>();
+    json.put("time", logRecord.getInstant().toString());
+    json.put("level", logRecord.getLevel().getName());
+    json.put("thread", entry.thread());
+    if (entry.context() != null) {
+      json.put("scenarioId", entry.context().scenarioId());
+      json.put("scenario", entry.context().scenario());
+      json.put("step", entry.context().step());
+      json.put("elapsedMs", entry.elapsedMillis());
+    }
+    json.put("logger", logRecord.getLoggerName());
+    json.put("message", DeferredFormatter.message(logRecord));
+    if (logRecord.getThrown() != null) {
+      var stackTrace = new StringWriter();
+      logRecord.getThrown().printStackTrace(new PrintWriter(stackTrace));
+      json.put("thrown", stackTrace.toString());
+    }
+    return json;
+  }
+
+  private BufferedWriter fileWriter() throws IOException {
+    if (fileWriter == null) {
+      Files.createDirectories(logFile.getParent());
+      fileWriter = Files.newBufferedWriter(logFile, StandardCharsets.UTF_8);
+    }
+    return fileWriter;
+  }
+
+  private void flush() {
+    System.err.flush();
+    if (fileWriter != null) {
+      try {
+        fileWriter.flush();
+      } catch (IOException e) {
+        System.err.printf("Unable to flush %s: %s%n", logFile, e.getMessage());
+      }
+    }
+  }
+
+  private void close() {
+    if (fileWriter != null) {
+      try {
+        fileWriter.close();
+      } catch (IOException e) {
+        System.err.printf("Unable to close %s: %s%n", logFile, e.getMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package loggers;
+
+import java.util.logging.Formatter;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * Formats records whose message is a {@link DeferredMessage}, so the message is only formatted when
+ * a handler writes it rather than on the logging thread. Any other record is formatted as by the
+ * standard JUL formatter.
+ */
+public class DeferredFormatter extends SimpleFormatter {
+
+  private static final Formatter STANDARD = new SimpleFormatter();
+
+  @Override
+  public String formatMessage(LogRecord logRecord) {
+    return message(logRecord);
+  }
+
+  /**
+   * Formats the message of a record with its parameters.
+   *
+   * @param logRecord The record.
+   * @return The formatted message.
+   */
+  public static String message(LogRecord logRecord) {
+    var parameters = logRecord.getParameters();
+    if (parameters != null && parameters.length == 1
+        && parameters[0] instanceof DeferredMessage message
+        && DeferredMessage.PATTERN.equals(logRecord.getMessage())) {
+      return message.toString();
+    }
+    return STANDARD.formatMessage(logRecord);
+  }
+}
@@ -0,0 +1,34 @@
+package loggers;
+
+import java.util.Arrays;
+
+/**
+ * A {@link String#format(String, Object...)} pattern and its arguments, which are only formatted
+ * when the message is written.
+ *
+ * <p>The message is logged as the single parameter of the {@value #PATTERN} pattern, so any
+ * {@link java.util.logging.Formatter} writes it by calling {@link #toString()}, and handlers other
+ * than those of this package print the formatted message rather than the raw pattern.</p>
+ */
+public final class DeferredMessage {
+
+  public static final String PATTERN = "{0}";
+  private final String pattern;
+  private final Object[] arguments;
+
+  /**
+   * Creates a message to be formatted when it is written.
+   *
+   * @param pattern   The format pattern, used as it is if there are no arguments.
+   * @param arguments The format arguments.
+   */
+  public DeferredMessage(String pattern, Object... arguments) {
+    this.pattern = pattern;
+    this.arguments = arguments == null ? new Object[0] : Arrays.copyOf(arguments, arguments.length);
+  }
+
+  @Override
+  public String toString() {
+    return arguments.length == 0 ? pattern : String.format(pattern, arguments);
+  }
+}
@@ -5,18 +5,23 @@ import io.cucumber.java.Scenario;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.StringWriter;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.Callable;
-import java.util.logging.FileHandler;
+import java.util.logging.Level;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
+import metrics.SpanKind;
+import metrics.Timings;
 import playwright.managers.ConfigurationManager;
 
 /**
  * Singleton for logging to both the console and a file for the running test.
+ *
+ * <p>Messages are logged as a {@link String#format(String, Object...)} pattern and its arguments,
+ * held in a {@link DeferredMessage} so that they are only formatted by the handler which writes
+ * them. Any JUL handler writes the formatted message.</p>
  */
 public class FileLogger {
 
@@ -24,9 +29,9 @@ public class FileLogger {
   private final LogManager logManager;
   private final ThreadLocal<Logger> logger = new ThreadLocal<>();
   private final ThreadLocal<Scenario> scenarioThreadLocal = new ThreadLocal<>();
+  private final ThreadLocal<RingBufferHandler> scenarioLog = new ThreadLocal<>();
   private static final String LOG_FOLDER = "logs";
   private static final String SOURCE_FOLDER = "target";
-  private static final String LOG_FOLDER_PATH = String.format("%s/%s", SOURCE_FOLDER, LOG_FOLDER);
 
   private FileLogger() {
     logManager = LogManager.getLogManager();
@@ -70,7 +75,7 @@ public class FileLogger {
    * @param formatting The format arguments.
    */
   public void info(String string, Object... formatting) {
-    get().info(() -> String.format(string, formatting));
+    logDeferred(Level.INFO, string, formatting);
   }
 
   /**
@@ -80,7 +85,7 @@ public class FileLogger {
    * @param formatting The format arguments.
    */
   public void warning(String string, Object... formatting) {
-    get().warning(() -> String.format(string, formatting));
+    logDeferred(Level.WARNING, string, formatting);
   }
 
   /**
@@ -90,7 +95,7 @@ public class FileLogger {
    * @param formatting The format arguments.
    */
   public void severe(String string, Object... formatting) {
-    get().severe(() -> String.format(string, formatting));
+    logDeferred(Level.SEVERE, string, formatting);
   }
 
   /**
@@ -100,7 +105,14 @@ public class FileLogger {
    * @param formatting The format arguments.
    */
   public void fine(String string, Object... formatting) {
-    get().fine(() -> String.format(string, formatting));
+    logDeferred(Level.FINE, string, formatting);
+  }
+
+  private void logDeferred(Level level, String string, Object... formatting) {
+    var log = get();
+    if (log.isLoggable(level)) {
+      log.log(level, DeferredMessage.PATTERN, new DeferredMessage(string, formatting));
+    }
   }
 
   /**
@@ -119,35 +131,40 @@ public class FileLogger {
   }
 
   /**
-   * Configures file handling for the logger.
+   * Configures file handling for the logger. Records are buffered in memory by a
+   * {@link RingBufferHandler} and only written to disk by {@link #spillScenarioLog()}.
    *
    * @param logger The Logger to configure.
    */
   private void configureFileHandling(Logger logger) {
-    if (ConfigurationManager.get().configuration()
-        .asFlag(Configuration.LOG_TO_FILE_ON_FAILURE, true)
-        || ConfigurationManager.get().configuration()
-        .asFlag(Configuration.LOG_TO_FILE_ALWAYS, false)) {
-      try {
-        Files.createDirectories(Path.of(LOG_FOLDER_PATH));
-        var fileHandler = new FileHandler(getLogFileName(logger.getName()));
-        fileHandler.setFormatter(new SimpleFormatter());
-        logger.addHandler(fileHandler);
-      } catch (IOException exception) {
-        logger.warning("Failed to create log directory and attach file handler");
-      }
+    var configuration = ConfigurationManager.get().configuration();
+    if (configuration.asFlag(Configuration.LOG_TO_FILE_ON_FAILURE, true)
+        || configuration.asFlag(Configuration.LOG_TO_FILE_ALWAYS, false)) {
+      var handler = new RingBufferHandler(
+          configuration.asInteger(Configuration.SCENARIO_LOG_BUFFER_SIZE, 2000));
+      handler.setLevel(Level.parse(
+          configuration.asString(Configuration.MINIMUM_LOG_LEVEL_FILE, "INFO")));
+      logger.addHandler(handler);
+      scenarioLog.set(handler);
     }
   }
 
   /**
-   * Generates a file name based on the provided name, sanitizing to replace non-allowed characters
-   * with "-".
+   * Writes the buffered log of the current scenario to its log file.
    *
-   * @param loggerName The name of the logger.
-   * @return Sanitized file name.
+   * @return The log which was written, or empty if the scenario has not logged to a buffer.
    */
-  private String getLogFileName(String loggerName) {
-    return String.format("%s/%s/%s.log", SOURCE_FOLDER, LOG_FOLDER, loggerName);
+  public Optional<String> spillScenarioLog() {
+    var handler = scenarioLog.get();
+    if (handler == null) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(handler.spill(Path.of(getLogFileName())));
+    } catch (IOException e) {
+      get().warning(() -> String.format("Failed to write log file %s", getLogFileName()));
+      return Optional.of(handler.contents());
+    }
   }
 
   /**
@@ -161,7 +178,7 @@ public class FileLogger {
   }
 
   /**
-   * Logs the time taken to execute the callable.
+   * Logs the time taken to execute the callable, recording it as a {@link SpanKind#ACTION} span.
    *
    * @param callable   Method to execute.
    * @param logMessage The log message.
@@ -171,7 +188,7 @@ public class FileLogger {
   public <T> T timedAction(Callable<T> callable, String logMessage) {
     var start = System.nanoTime();
     try {
-      var result = callable.call();
+      var result = Timings.get().time(SpanKind.ACTION, logMessage, callable);
       var waitTime = (System.nanoTime() - start) / 1000_000;
       fine("Action Executed in %s ms : %s", waitTime, logMessage);
       return result;
@@ -194,25 +211,15 @@ public class FileLogger {
   }
 
   /**
-   * Sets the logging properties.
+   * Sets the logging properties. Console and structured file output is written by the
+   * {@link AsyncLogWriter} through a single {@link AsyncLogHandler} on the root logger.
    *
    * @param logManager The LogManager to configure.
    */
   private void setLoggingProperties(LogManager logManager) {
     try {
       var properties = new Properties();
-      properties.setProperty("handlers", "java.util.logging.ConsoleHandler");
       properties.setProperty(".level", "FINE");
-      properties.setProperty(
-          "java.util.logging.ConsoleHandler.level",
-          ConfigurationManager.get().configuration().asString(
-              Configuration.MINIMUM_LOG_LEVEL_CONSOLE,
-              "INFO"));
-      properties.setProperty(
-          "java.util.logging.FileHandler.level",
-          ConfigurationManager.get().configuration().asString(
-              Configuration.MINIMUM_LOG_LEVEL_FILE,
-              "INFO"));
       var stringWriter = new StringWriter();
       properties.store(stringWriter, "LoggingProperties");
       var loggingPropertiesBytes = stringWriter.toString().getBytes();
@@ -220,12 +227,19 @@ public class FileLogger {
     } catch (IOException e) {
       // Continue with default properties
     }
+    logManager.getLogger("").addHandler(new AsyncLogHandler());
   }
 
   /**
    * Called from Hooks to clean up resources.
    */
   public void shutdown() {
+    var handler = scenarioLog.get();
+    if (handler != null) {
+      Optional.ofNullable(logger.get()).ifPresent(log -> log.removeHandler(handler));
+      handler.close();
+      scenarioLog.remove();
+    }
     logger.remove();
     scenarioThreadLocal.remove();
   }
@@ -0,0 +1,56 @@
+package loggers;
+
+/**
+ * The scenario and step a test thread is executing, attached to every structured log record.
+ *
+ * @param scenarioId The id of the running scenario.
+ * @param key        The {@link scheduling.ScenarioKey} of the running scenario.
+ * @param scenario   The name of the running scenario.
+ * @param step       The text of the running step or the name of the running hook.
+ * @param startNanos The {@link System#nanoTime()} at which the scenario started.
+ */
+public record LogContext(String scenarioId, String key, String scenario, String step,
+                         long startNanos) {
+
+  private static final ThreadLocal<LogContext> CURRENT = new ThreadLocal<>();
+
+  /**
+   * Records that the current thread has started a scenario.
+   *
+   * @param scenarioId The id of the scenario.
+   * @param key        The {@link scheduling.ScenarioKey} of the scenario.
+   * @param scenario   The name of the scenario.
+   */
+  public static void startScenario(String scenarioId, String key, String scenario) {
+    CURRENT.set(new LogContext(scenarioId, key, scenario, null, System.nanoTime()));
+  }
+
+  /**
+   * Records that the current thread has started a step of its scenario.
+   *
+   * @param step The text of the step or the name of the hook.
+   */
+  public static void startStep(String step) {
+    var context = CURRENT.get();
+    if (context != null) {
+      CURRENT.set(new LogContext(context.scenarioId, context.key, context.scenario, step,
+          context.startNanos));
+    }
+  }
+
+  /**
+   * Records that the current thread has finished its scenario.
+   */
+  public static void endScenario() {
+    CURRENT.remove();
+  }
+
+  /**
+   * Retrieves the context of the current thread.
+   *
+   * @return The context, or null if the thread is not running a scenario.
+   */
+  public static LogContext current() {
+    return CURRENT.get();
+  }
+}
@@ -0,0 +1,90 @@
+package loggers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * Log handler which keeps the most recent records of a scenario in memory.
+ *
+ * <p>Records are held in a fixed size ring buffer and are only formatted when the log is read, so
+ * a passing scenario whose log is never attached performs no formatting or file I/O. Once the
+ * buffer is full the oldest records are overwritten and the number dropped is reported at the top
+ * of the log.</p>
+ */
+public class RingBufferHandler extends Handler {
+
+  private final LogRecord[] records;
+  private int next;
+  private long published;
+
+  /**
+   * Creates a handler holding up to the given number of records.
+   *
+   * @param capacity The maximum number of records to keep.
+   */
+  public RingBufferHandler(int capacity) {
+    records = new LogRecord[Math.max(1, capacity)];
+    setFormatter(new DeferredFormatter());
+  }
+
+  @Override
+  public synchronized void publish(LogRecord logRecord) {
+    if (!isLoggable(logRecord)) {
+      return;
+    }
+    records[next] = logRecord;
+    next = (next + 1) % records.length;
+    published++;
+  }
+
+  /**
+   * Formats the buffered records, oldest first.
+   *
+   * @return The formatted log.
+   */
+  public synchronized String contents() {
+    var formatter = getFormatter();
+    var log = new StringBuilder();
+    if (published > records.length) {
+      log.append(String.format("... %d earlier log records were dropped%n",
+          published - records.length));
+    }
+    var count = (int) Math.min(published, records.length);
+    var first = published > records.length ? next : 0;
+    for (int i = 0; i < count; i++) {
+      log.append(formatter.format(records[(first + i) % records.length]));
+    }
+    return log.toString();
+  }
+
+  /**
+   * Writes the buffered records to a file.
+   *
+   * @param file The file to write to.
+   * @return The formatted log which was written.
+   * @throws IOException if the file cannot be written.
+   */
+  public String spill(Path file) throws IOException {
+    var log = contents();
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, log, StandardCharsets.UTF_8);
+    return log;
+  }
+
+  @Override
+  public void flush() {
+    // Nothing is written until the buffer is spilled
+  }
+
+  @Override
+  public synchronized void close() {
+    Arrays.fill(records, null);
+    next = 0;
+    published = 0;
+  }
+}
@@ -0,0 +1,106 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of durations with fixed memory.
+ *
+ * <p>Durations are recorded in microseconds into log-linear buckets: values below 64 have a bucket
+ * each, and every power of two above that is split into 32 buckets, so any recorded value is
+ * reported within about 3% of its true value. Recording is a single atomic increment, so any
+ * number of threads can record without contention on a lock.</p>
+ */
+public class Histogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+  private static final int BUCKETS = index(Long.MAX_VALUE) + 1;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder totalMicros = new LongAdder();
+  private final AtomicLong maxMicros = new AtomicLong();
+
+  /**
+   * Records a duration.
+   *
+   * @param nanos The duration in nanoseconds.
+   */
+  public void record(long nanos) {
+    var micros = Math.max(0, nanos / 1_000);
+    counts.incrementAndGet(index(micros));
+    count.increment();
+    totalMicros.add(micros);
+    maxMicros.accumulateAndGet(micros, Math::max);
+  }
+
+  /**
+   * Gets the number of recorded durations.
+   *
+   * @return The count.
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Gets the sum of every recorded duration.
+   *
+   * @return The total in microseconds.
+   */
+  public long getTotalMicros() {
+    return totalMicros.sum();
+  }
+
+  /**
+   * Gets the longest recorded duration.
+   *
+   * @return The maximum in microseconds.
+   */
+  public long getMaxMicros() {
+    return maxMicros.get();
+  }
+
+  /**
+   * Calculates the duration below which the given percentage of recorded durations fall.
+   *
+   * @param percentile The percentile, between 0 and 100.
+   * @return The duration in microseconds, or 0 if nothing has been recorded.
+   */
+  public long percentile(double percentile) {
+    var total = 0L;
+    for (int i = 0; i < BUCKETS; i++) {
+      total += counts.get(i);
+    }
+    var rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+    var seen = 0L;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts.get(i);
+      if (seen >= rank) {
+        return Math.min(midpoint(i), getMaxMicros());
+      }
+    }
+    return 0;
+  }
+
+  static int index(long micros) {
+    if (micros < LINEAR_LIMIT) {
+      return (int) micros;
+    }
+    var exponent = 63 - Long.numberOfLeadingZeros(micros);
+    var shift = exponent - SUB_BUCKET_BITS;
+    return (shift << SUB_BUCKET_BITS) + (int) (micros >>> shift);
+  }
+
+  static long midpoint(int index) {
+    if (index < LINEAR_LIMIT) {
+      return index;
+    }
+    var shift = (index >> SUB_BUCKET_BITS) - 1;
+    var lower = (long) ((index & (SUB_BUCKETS - 1)) + SUB_BUCKETS) << shift;
+    return lower + ((1L << shift) >> 1);
+  }
+}
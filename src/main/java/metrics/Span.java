@@ -0,0 +1,38 @@
+package metrics;
+
+/**
+ * Measures a block of work from creation until it is closed.
+ *
+ * <pre>{@code
+ * try (var span = Timings.get().start(SpanKind.WAIT, "search results")) {
+ *   waitForResults();
+ * }
+ * }</pre>
+ */
+public class Span implements AutoCloseable {
+
+  private final Timings timings;
+  private final SpanKind kind;
+  private final String name;
+  private final String page;
+  private final long startNanos = System.nanoTime();
+  private boolean closed;
+
+  Span(Timings timings, SpanKind kind, String name, String page) {
+    this.timings = timings;
+    this.kind = kind;
+    this.name = name;
+    this.page = page;
+  }
+
+  /**
+   * Records the span, once.
+   */
+  @Override
+  public void close() {
+    if (!closed) {
+      closed = true;
+      timings.record(kind, name, page, startNanos, System.nanoTime() - startNanos);
+    }
+  }
+}
@@ -0,0 +1,8 @@
+package metrics;
+
+/**
+ * The kind of work a {@link Span} measures.
+ */
+public enum SpanKind {
+  ACTION, NAVIGATION, WAIT, HOOK, BROWSER_LAUNCH, RESOURCE_WAIT
+}
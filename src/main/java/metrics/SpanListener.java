@@ -0,0 +1,15 @@
+package metrics;
+
+/**
+ * Receives every span recorded by {@link Timings}, on the thread which recorded it.
+ */
+@FunctionalInterface
+public interface SpanListener {
+
+  /**
+   * Called when a span completes.
+   *
+   * @param span The completed span.
+   */
+  void onSpan(SpanRecord span);
+}
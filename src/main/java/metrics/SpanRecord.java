@@ -0,0 +1,19 @@
+package metrics;
+
+/**
+ * A completed span.
+ *
+ * @param kind          The kind of work measured.
+ * @param name          The name of the span.
+ * @param scenario      The {@link scheduling.ScenarioKey} of the scenario the span was recorded in,
+ *                      or null outside a scenario.
+ * @param page          The page the span relates to, or null.
+ * @param browser       The browser the span was recorded against.
+ * @param thread        The name of the thread which recorded the span.
+ * @param startNanos    The {@link System#nanoTime()} at which the span started.
+ * @param durationNanos How long the span took.
+ */
+public record SpanRecord(SpanKind kind, String name, String scenario, String page, String browser,
+                         String thread, long startNanos, long durationNanos) {
+
+}
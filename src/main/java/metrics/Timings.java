@@ -0,0 +1,264 @@
+package metrics;
+
+import com.google.gson.GsonBuilder;
+import enums.Configuration;
+import exceptions.ConfigurationException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import loggers.LogContext;
+import playwright.managers.ConfigurationManager;
+
+/**
+ * Records named spans of work into a {@link Histogram} per kind, name, page and browser, along
+ * with the total time each scenario, identified by its {@link scheduling.ScenarioKey}, spent on
+ * each kind of work.
+ *
+ * <p>Span names may be free text, such as a logged action, so only the first
+ * {@value #MAX_NAMES_PER_KIND} distinct names of each kind get a histogram of their own and any
+ * further names are recorded under {@value #OTHER_NAME}. Span listeners still receive the full
+ * name.</p>
+ *
+ * <p>Once those names are known, recording never takes a lock, so spans can be recorded on hot
+ * paths from every worker thread. A p50/p95/p99 table is printed and a JSON export written at the
+ * end of the run by the {@link plugins.TimingReport} plugin.</p>
+ */
+@SuppressWarnings("java:S6548")
+public class Timings {
+
+  static final int MAX_NAMES_PER_KIND = 64;
+  static final String OTHER_NAME = "(other)";
+  private static final double[] PERCENTILES = {50, 95, 99};
+  private static Timings instance;
+  private final Map<Key, Histogram> histograms = new ConcurrentHashMap<>();
+  private final Map<SpanKind, Set<String>> names = new EnumMap<>(SpanKind.class);
+  private final Map<String, Map<SpanKind, LongAdder>> scenarioTotals = new ConcurrentHashMap<>();
+  private final List<SpanListener> listeners = new CopyOnWriteArrayList<>();
+  private final String browser;
+
+  private record Key(SpanKind kind, String name, String page, String browser) {
+
+  }
+
+  private Timings() {
+    this(ConfigurationManager.get().configuration().asString(Configuration.BROWSER, ""));
+  }
+
+  Timings(String browser) {
+    this.browser = browser;
+    for (SpanKind kind : SpanKind.values()) {
+      names.put(kind, ConcurrentHashMap.newKeySet());
+    }
+  }
+
+  /**
+   * Returns the singleton instance of Timings.
+   *
+   * @return The Timings instance.
+   */
+  public static synchronized Timings get() {
+    if (instance == null) {
+      instance = new Timings();
+    }
+    return instance;
+  }
+
+  /**
+   * Starts a span which is recorded when closed.
+   *
+   * @param kind The kind of work measured.
+   * @param name The name of the span.
+   * @return The started span.
+   */
+  public Span start(SpanKind kind, String name) {
+    return new Span(this, kind, name, null);
+  }
+
+  /**
+   * Starts a span relating to a page which is recorded when closed.
+   *
+   * @param kind The kind of work measured.
+   * @param name The name of the span.
+   * @param page The page the work relates to.
+   * @return The started span.
+   */
+  public Span start(SpanKind kind, String name, String page) {
+    return new Span(this, kind, name, page);
+  }
+
+  /**
+   * Measures the execution of a callable.
+   *
+   * @param kind     The kind of work measured.
+   * @param name     The name of the span.
+   * @param callable The work to measure.
+   * @param <T>      Return type.
+   * @return Response from the callable.
+   * @throws Exception if the callable throws.
+   */
+  public <T> T time(SpanKind kind, String name, Callable<T> callable) throws Exception {
+    try (var ignored = start(kind, name)) {
+      return callable.call();
+    }
+  }
+
+  /**
+   * Records a completed span and notifies the span listeners.
+   *
+   * @param kind          The kind of work measured.
+   * @param name          The name of the span.
+   * @param page          The page the work relates to, or null.
+   * @param startNanos    The {@link System#nanoTime()} at which the work started.
+   * @param durationNanos How long the work took.
+   */
+  public void record(SpanKind kind, String name, String page, long startNanos,
+      long durationNanos) {
+    histograms.computeIfAbsent(new Key(kind, bounded(kind, name), page, browser),
+        key -> new Histogram()).record(durationNanos);
+    var context = LogContext.current();
+    var scenario = context == null ? null : context.key();
+    if (scenario != null) {
+      scenarioTotals.computeIfAbsent(scenario, key -> new ConcurrentHashMap<>())
+          .computeIfAbsent(kind, key -> new LongAdder())
+          .add(durationNanos);
+    }
+    if (!listeners.isEmpty()) {
+      var span = new SpanRecord(kind, name, scenario, page, browser,
+          Thread.currentThread().getName(), startNanos, durationNanos);
+      listeners.forEach(listener -> listener.onSpan(span));
+    }
+  }
+
+  /**
+   * Limits the names of each kind of span to the first {@value #MAX_NAMES_PER_KIND}, so that the
+   * number of histograms is bounded whatever the spans are called. The lock is only taken while
+   * the limit has not been reached.
+   *
+   * @param kind The kind of work measured.
+   * @param name The name of the span.
+   * @return The name, or {@value #OTHER_NAME} if the limit has been reached or there is no name.
+   */
+  private String bounded(SpanKind kind, String name) {
+    var known = names.get(kind);
+    if (name == null) {
+      return OTHER_NAME;
+    }
+    if (known.contains(name)) {
+      return name;
+    }
+    if (known.size() >= MAX_NAMES_PER_KIND) {
+      return OTHER_NAME;
+    }
+    synchronized (known) {
+      if (known.size() >= MAX_NAMES_PER_KIND) {
+        return OTHER_NAME;
+      }
+      known.add(name);
+      return name;
+    }
+  }
+
+  /**
+   * Registers a listener to receive every span recorded from now on.
+   *
+   * @param listener The listener.
+   */
+  public void addListener(SpanListener listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Removes a span listener.
+   *
+   * @param listener The listener.
+   */
+  public void removeListener(SpanListener listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Summarises every span as a table of percentiles, ordered by total time.
+   *
+   * @return The table, or an empty string if nothing has been recorded.
+   */
+  public String report() {
+    if (histograms.isEmpty()) {
+      return "";
+    }
+    var report = new StringBuilder(String.format(
+        "%-10s | %-40s | %-12s | %7s | %9s | %9s | %9s | %9s | %10s%n", "Kind", "Name", "Page",
+        "Count", "p50 (ms)", "p95 (ms)", "p99 (ms)", "Max (ms)", "Total (ms)"));
+    sortedByTotal().forEach(entry -> {
+      var key = entry.getKey();
+      var histogram = entry.getValue();
+      report.append(String.format("%-10s | %-40.40s | %-12.12s | %7d", key.kind(), key.name(),
+          key.page() == null ? "" : key.page(), histogram.getCount()));
+      for (double percentile : PERCENTILES) {
+        report.append(String.format(" | %9.1f", histogram.percentile(percentile) / 1000.0));
+      }
+      report.append(String.format(" | %9.1f | %10.1f%n", histogram.getMaxMicros() / 1000.0,
+          histogram.getTotalMicros() / 1000.0));
+    });
+    return report.toString();
+  }
+
+  /**
+   * Writes every span summary and the time each scenario spent on each kind of work as JSON.
+   *
+   * @param file The file to write to.
+   * @throws ConfigurationException if the file cannot be written.
+   */
+  public void export(Path file) {
+    List<Map<String, Object>> spans = new ArrayList<>();
+    sortedByTotal().forEach(entry -> {
+      var key = entry.getKey();
+      var histogram = entry.getValue();
+      var span = new LinkedHashMap<String, Object>();
+      span.put("kind", key.kind());
+      span.put("name", key.name());
+      span.put("page", key.page());
+      span.put("browser", key.browser());
+      span.put("count", histogram.getCount());
+      span.put("totalMicros", histogram.getTotalMicros());
+      span.put("p50Micros", histogram.percentile(50));
+      span.put("p95Micros", histogram.percentile(95));
+      span.put("p99Micros", histogram.percentile(99));
+      span.put("maxMicros", histogram.getMaxMicros());
+      spans.add(span);
+    });
+    Map<String, Map<SpanKind, Long>> scenarios = new LinkedHashMap<>();
+    scenarioTotals.forEach((scenario, totals) -> {
+      var micros = new LinkedHashMap<SpanKind, Long>();
+      totals.forEach((kind, nanos) -> micros.put(kind, nanos.sum() / 1_000));
+      scenarios.put(scenario, micros);
+    });
+    var export = new LinkedHashMap<String, Object>();
+    export.put("spans", spans);
+    export.put("scenarioTotalMicros", scenarios);
+    try {
+      Files.createDirectories(file.getParent());
+      Files.writeString(file, new GsonBuilder().setPrettyPrinting().create().toJson(export));
+    } catch (IOException e) {
+      throw new ConfigurationException(
+          String.format("Unable to write timings to %s", file), e);
+    }
+  }
+
+  private List<Map.Entry<Key, Histogram>> sortedByTotal() {
+    return histograms.entrySet().stream()
+        .sorted(Comparator.comparingLong(
+            (Map.Entry<Key, Histogram> entry) -> entry.getValue().getTotalMicros()).reversed())
+        .toList();
+  }
+}
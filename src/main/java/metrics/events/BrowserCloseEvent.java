@@ -0,0 +1,24 @@
+package metrics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event spanning the closing of a browser.
+ */
+@Name("playwright.core.BrowserClose")
+@Label("Browser Close")
+@Category("Playwright Core")
+@Description("Closing of a browser process")
+public class BrowserCloseEvent extends Event {
+
+  @Label("Browser")
+  public String browser;
+
+  @Label("Reason")
+  @Description("Why the browser was closed, e.g. recycled, crashed, killed or shutdown")
+  public String reason;
+}
@@ -0,0 +1,23 @@
+package metrics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event spanning the launch of a browser.
+ */
+@Name("playwright.core.BrowserLaunch")
+@Label("Browser Launch")
+@Category("Playwright Core")
+@Description("Launch of a browser process")
+public class BrowserLaunchEvent extends Event {
+
+  @Label("Browser")
+  public String browser;
+
+  @Label("Headless")
+  public boolean headless;
+}
@@ -0,0 +1,54 @@
+package metrics.events;
+
+import exceptions.ConfigurationException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import jdk.jfr.Recording;
+
+/**
+ * Records the whole run with Java Flight Recorder, so that the framework's own events can be viewed
+ * alongside garbage collection, thread parking and I/O in JDK Mission Control.
+ */
+public final class FlightRecording {
+
+  private static final Path DESTINATION = Path.of("target", "flight-recording.jfr");
+  private static Recording recording;
+
+  private FlightRecording() {
+  }
+
+  /**
+   * Starts recording with the JDK's low overhead {@code default} settings, if not already started.
+   *
+   * @throws ConfigurationException if the recording cannot be started.
+   */
+  public static synchronized void start() {
+    if (recording != null) {
+      return;
+    }
+    try {
+      Files.createDirectories(DESTINATION.getParent());
+      recording = new Recording(jdk.jfr.Configuration.getConfiguration("default"));
+      recording.setName("playwright-core");
+      recording.setToDisk(true);
+      recording.setDestination(DESTINATION);
+      recording.start();
+    } catch (IOException | ParseException e) {
+      throw new ConfigurationException("Unable to start the flight recording", e);
+    }
+  }
+
+  /**
+   * Stops the recording, writing it to {@code target/flight-recording.jfr}.
+   */
+  public static synchronized void stop() {
+    if (recording != null) {
+      recording.stop();
+      recording.close();
+      recording = null;
+      System.out.printf("Flight recording written to %s%n", DESTINATION);
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package metrics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event spanning a page navigation, including waiting for the page to be ready.
+ */
+@Name("playwright.core.Navigation")
+@Label("Navigation")
+@Category("Playwright Core")
+@Description("Navigation to a page until it is ready")
+public class NavigationEvent extends Event {
+
+  @Label("Page")
+  public String page;
+
+  @Label("URL")
+  public String url;
+
+  @Label("Skipped")
+  @Description("Whether navigation was skipped as the page was already at the URL")
+  public boolean skipped;
+}
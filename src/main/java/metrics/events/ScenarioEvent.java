@@ -0,0 +1,26 @@
+package metrics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event spanning the execution of a scenario.
+ */
+@Name("playwright.core.Scenario")
+@Label("Scenario")
+@Category("Playwright Core")
+@Description("Execution of a Cucumber scenario")
+public class ScenarioEvent extends Event {
+
+  @Label("Scenario")
+  public String scenario;
+
+  @Label("URI")
+  public String uri;
+
+  @Label("Status")
+  public String status;
+}
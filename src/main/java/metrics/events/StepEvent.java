@@ -0,0 +1,26 @@
+package metrics.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event spanning the execution of a step or hook.
+ */
+@Name("playwright.core.Step")
+@Label("Step")
+@Category("Playwright Core")
+@Description("Execution of a Cucumber step or hook")
+public class StepEvent extends Event {
+
+  @Label("Step")
+  public String step;
+
+  @Label("Scenario")
+  public String scenario;
+
+  @Label("Status")
+  public String status;
+}
@@ -1,17 +1,11 @@
 package playwright.interfaces;
 
-import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
-
 import com.microsoft.playwright.Page.NavigateOptions;
-import com.microsoft.playwright.options.WaitUntilState;
 import enums.Configuration;
-import exceptions.UnexpectedStatusCodeException;
 import java.time.Duration;
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.regex.Pattern;
-import org.opentest4j.AssertionFailedError;
 import playwright.managers.ConfigurationManager;
+import playwright.navigation.Navigator;
+import playwright.waits.PageWait;
 import utils.TimeLimit;
 
 /**
@@ -31,7 +25,7 @@ public interface NavigateTo extends GetPage {
    * Navigates to the base URL specified in the configuration.
    */
   default void navigateTo() {
-    navigateTo(getPageUrlExtension(), new NavigateOptions().setWaitUntil(WaitUntilState.LOAD));
+    navigateTo(getPageUrlExtension(), Navigator.defaultOptions());
   }
 
   /**
@@ -40,54 +34,38 @@ public interface NavigateTo extends GetPage {
    * @param route The route to navigate to.
    */
   default void navigateTo(String route) {
-    navigateTo(route, new NavigateOptions().setWaitUntil(WaitUntilState.LOAD));
+    navigateTo(route, Navigator.defaultOptions());
   }
 
   /**
    * Navigates to the specified route under the base URL specified in the configuration, with
-   * additional navigation options. Method will retry navigation once if the URL does not match the
-   * expected URL.  If URL still does not match exception is thrown.
+   * additional navigation options. Method will retry navigation if the URL does not match the
+   * expected URL. If URL still does not match within the navigation timeout exception is thrown.
+   * Navigation is skipped if the page is already at the target URL, see {@link Navigator}.
    *
    * @param route   The route to navigate to.
    * @param options Additional navigation options.
    */
   default void navigateTo(String route, NavigateOptions options) {
-    String url = String.format("%s%s", ConfigurationManager.get().environment().asString(
-            Configuration.BASE_URL),
-        Optional.ofNullable(route).orElse(""));
-    AtomicReference<Integer> navigationResponse = new AtomicReference<>();
-    TimeLimit.of(Duration.ofMillis(ConfigurationManager.get().configuration()
-            .asInteger(Configuration.NAVIGATION_TIMEOUT, 20_000)))
-        .doWhileFalse(() -> {
-          var response = this.getPage().navigate(url, options);
-          if (route != null && !route.isEmpty()) {
-            var regex = route.replace("/", "\\/");
-            var pattern = Pattern.compile(regex);
-            var matcher = pattern.matcher(getPage().url());
-            if (!matcher.find()) {
-              return false;
-            }
-            try {
-              assertThat(getPage()).hasURL(pattern);
-            } catch (AssertionFailedError failed) {
-              return false;
-            }
-          }
-          if (response != null) {
-            navigationResponse.set(response.status());
-          }
-          if (navigationResponse.get() != null && response == null) {
-            return false;
-          }
-          return response == null || response.ok();
-        }, () -> new UnexpectedStatusCodeException(200, navigationResponse.get(), route));
-    waitForPageReadyState();
+    Navigator.navigate(this, route, options);
   }
 
   /**
    * For pages where me must wait for a specific page state before we can interact with it, this
    * method can be overwridden and will automatically be called upon {@link #navigateTo()}.
+   * Implementations can use {@link #pageWait()} to wait on page events rather than polling.
    */
   default void waitForPageReadyState() {
   }
+
+  /**
+   * Creates event driven waits on this page, bounded by the configured navigation timeout.
+   *
+   * @return A new PageWait for this page.
+   */
+  default PageWait pageWait() {
+    return PageWait.on(getPage(), TimeLimit.of(Duration.ofMillis(
+        ConfigurationManager.get().configuration()
+            .asInteger(Configuration.NAVIGATION_TIMEOUT, 20_000))));
+  }
 }
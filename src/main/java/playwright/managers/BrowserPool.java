@@ -0,0 +1,203 @@
+package playwright.managers;
+
+import com.microsoft.playwright.Browser;
+import exceptions.ConfigurationException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import metrics.events.BrowserCloseEvent;
+
+/**
+ * Pool of warm browsers, keyed by browser type and launch options.
+ *
+ * <p>Playwright objects are confined to the thread which created them, so each worker thread owns
+ * its own set of pooled browsers. A browser is kept alive across scenarios and is only closed when
+ * it has been used for the configured number of scenarios or when it is found to be disconnected
+ * (for example after a crash).</p>
+ *
+ * <p>Launching a browser is CPU and memory intensive, so the number of browsers launching at the
+ * same time across all threads is capped, and threads wait for a launch slot beyond that.</p>
+ */
+public class BrowserPool {
+
+  private final ThreadLocal<Map<Key, PooledBrowser>> workerBrowsers =
+      ThreadLocal.withInitial(HashMap::new);
+  private final Queue<PooledBrowser> allBrowsers = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger launches = new AtomicInteger();
+  private final AtomicInteger reuses = new AtomicInteger();
+  private final AtomicInteger recycles = new AtomicInteger();
+  private final AtomicInteger crashes = new AtomicInteger();
+  private final int recycleAfter;
+  private final Semaphore launchSlots;
+
+  /**
+   * Creates a browser pool.
+   *
+   * @param recycleAfter          Number of scenarios a browser may serve before it is relaunched,
+   *                              values less than 1 mean the browser is never recycled.
+   * @param maxConcurrentLaunches Number of browsers which may be launching at the same time,
+   *                              values less than 1 mean launches are not limited.
+   */
+  public BrowserPool(int recycleAfter, int maxConcurrentLaunches) {
+    this.recycleAfter = recycleAfter;
+    this.launchSlots = new Semaphore(
+        maxConcurrentLaunches < 1 ? Integer.MAX_VALUE : maxConcurrentLaunches, true);
+  }
+
+  /**
+   * Retrieves a warm browser for the given key on the current thread, launching a new one if none
+   * is available or the pooled browser has disconnected.
+   *
+   * @param key      The browser type and launch options.
+   * @param launcher Function used to launch a new browser for the key.
+   * @return A connected browser.
+   */
+  public Browser acquire(Key key, Function<Key, Browser> launcher) {
+    var browsers = workerBrowsers.get();
+    var pooled = browsers.get(key);
+    if (pooled != null && pooled.browser.isConnected()) {
+      reuses.incrementAndGet();
+      return pooled.browser;
+    }
+    if (pooled != null) {
+      crashes.incrementAndGet();
+      discard(pooled, "crashed");
+    }
+    pooled = new PooledBrowser(launch(key, launcher));
+    browsers.put(key, pooled);
+    allBrowsers.add(pooled);
+    return pooled.browser;
+  }
+
+  /**
+   * Launches a browser once a launch slot is free, counting it as a launch of this pool.
+   *
+   * @param key      The browser type and launch options.
+   * @param launcher Function used to launch a new browser for the key.
+   * @return The launched browser.
+   * @throws ConfigurationException if the thread is interrupted while waiting for a launch slot.
+   */
+  public Browser launch(Key key, Function<Key, Browser> launcher) {
+    try {
+      launchSlots.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ConfigurationException("Interrupted while waiting to launch a browser", e);
+    }
+    try {
+      launches.incrementAndGet();
+      return launcher.apply(key);
+    } finally {
+      launchSlots.release();
+    }
+  }
+
+  /**
+   * Adds an already launched browser to the current thread's pool, for example a browser which was
+   * launched ahead of time by another thread and handed over to this one.
+   *
+   * @param key     The browser type and launch options.
+   * @param browser The launched browser.
+   */
+  public void adopt(Key key, Browser browser) {
+    var pooled = new PooledBrowser(browser);
+    workerBrowsers.get().put(key, pooled);
+    allBrowsers.add(pooled);
+  }
+
+  /**
+   * Returns the browser for the given key to the pool once a scenario has finished with it. The
+   * browser is closed if it has reached its recycle limit or has disconnected.
+   *
+   * @param key The browser type and launch options.
+   */
+  public void release(Key key) {
+    var pooled = workerBrowsers.get().get(key);
+    if (pooled == null) {
+      return;
+    }
+    pooled.uses++;
+    if (!pooled.browser.isConnected()) {
+      crashes.incrementAndGet();
+      discard(pooled, "crashed");
+    } else if (recycleAfter > 0 && pooled.uses >= recycleAfter) {
+      recycles.incrementAndGet();
+      discard(pooled, "recycled");
+    }
+  }
+
+  /**
+   * Closes every browser held by the pool across all threads. Only to be called once no thread is
+   * using its browsers any more, see {@link PlaywrightManager#shutdown()}.
+   */
+  public void shutdown() {
+    PooledBrowser pooled;
+    while ((pooled = allBrowsers.poll()) != null) {
+      close(pooled, "shutdown");
+    }
+    workerBrowsers.remove();
+  }
+
+  /**
+   * Counts the browsers launched through this pool, including those launched ahead of time.
+   *
+   * @return The number of browser launches.
+   */
+  public int launches() {
+    return launches.get();
+  }
+
+  /**
+   * Summarises how many browsers were launched and how often a warm browser was reused.
+   *
+   * @return The pool statistics.
+   */
+  public String report() {
+    return String.format(
+        "Browser pool: %d launched, %d reused, %d recycled, %d crashed",
+        launches.get(), reuses.get(), recycles.get(), crashes.get());
+  }
+
+  private void discard(PooledBrowser pooled, String reason) {
+    workerBrowsers.get().values().remove(pooled);
+    allBrowsers.remove(pooled);
+    close(pooled, reason);
+  }
+
+  private void close(PooledBrowser pooled, String reason) {
+    var event = new BrowserCloseEvent();
+    event.reason = reason;
+    event.begin();
+    try {
+      event.browser = pooled.browser.browserType().name();
+      pooled.browser.close();
+    } catch (Exception e) {
+      // The browser has already gone, nothing left to clean up
+    }
+    event.commit();
+  }
+
+  /**
+   * Identifies a pooled browser by its browser type and the launch options which affect it.
+   *
+   * @param browserType The browser name, e.g. chromium, chrome or firefox.
+   * @param headless    Whether the browser runs headless.
+   */
+  public record Key(String browserType, boolean headless) {
+
+  }
+
+  private static final class PooledBrowser {
+
+    private final Browser browser;
+    private int uses;
+
+    private PooledBrowser(Browser browser) {
+      this.browser = browser;
+    }
+  }
+}
@@ -5,9 +5,14 @@ import exceptions.ConfigurationException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Singleton class to manage Environment and Testing configuration.
@@ -17,7 +22,7 @@ public class ConfigurationManager {
 
   private static ConfigurationManager instance;
   private final PropertyHandler configuration;
-  private PropertyHandler environment;
+  private volatile PropertyHandler environment;
 
   /**
    * Constructs a ConfigurationManager and initialises the configuration PropertyHandler.
@@ -39,18 +44,26 @@ public class ConfigurationManager {
   }
 
   /**
-   * Retrieves the environment PropertyHandler.
+   * Retrieves the environment PropertyHandler, loading it on first use. Safe to call from any
+   * thread.
    *
    * @return The environment PropertyHandler.
    */
   public PropertyHandler environment() {
-    if (environment == null) {
-      environment = new PropertyHandler(
-          String.format(
-              "./src/test/resources/config/%s.env.properties",
-              configuration.asRequiredString(Configuration.ENVIRONMENT)));
+    var loaded = environment;
+    if (loaded == null) {
+      synchronized (this) {
+        loaded = environment;
+        if (loaded == null) {
+          loaded = new PropertyHandler(
+              String.format(
+                  "./src/test/resources/config/%s.env.properties",
+                  configuration.asRequiredString(Configuration.ENVIRONMENT)));
+          environment = loaded;
+        }
+      }
     }
-    return environment;
+    return loaded;
   }
 
   /**
@@ -63,26 +76,61 @@ public class ConfigurationManager {
   }
 
   /**
-   * A utility class which provides mechanisms to retrieve configuration data.
+   * An immutable, typed snapshot of configuration data.
+   *
+   * <p>Every {@link Configuration} is resolved once, when the handler is created, in the following
+   * order of precedence: environment variable, system property, secrets file and then properties
+   * file. Values are converted to the {@link Configuration#getType() type} of their configuration,
+   * so invalid values fail at startup rather than mid-run, and are held in an {@link EnumMap} so
+   * that lookups are constant time and do not allocate.</p>
    */
   public static class PropertyHandler {
 
-    private final Properties properties;
+    private final Map<Configuration, String> values = new EnumMap<>(Configuration.class);
+    private final Map<Configuration, Object> typedValues = new EnumMap<>(Configuration.class);
+    private final Set<String> unknownProperties = new TreeSet<>();
 
     /**
-     * Constructs a PropertyHandler and loads properties from the given path.
+     * Constructs a PropertyHandler and resolves every configuration from the environment, system
+     * properties and the properties file at the given path.
      *
      * @param path The path to the properties file.
+     * @throws ConfigurationException if the file cannot be read or a value cannot be converted to
+     *                                the type of its configuration.
      */
     public PropertyHandler(String path) {
+      var properties = new Properties();
       try (FileInputStream input = new FileInputStream(path)) {
-        properties = new Properties();
         properties.load(input);
-        overwriteSecrets(path);
+        overwriteSecrets(properties, path);
       } catch (IOException e) {
         throw new ConfigurationException(
             String.format("There was an error loading the property file at path: %s", path), e);
       }
+      for (Configuration configuration : Configuration.values()) {
+        var property = configuration.getProperty();
+        Optional.ofNullable(System.getenv(getEnvNameForOperatingSystem(property)))
+            .or(() -> Optional.ofNullable(System.getProperty(property)))
+            .or(() -> Optional.ofNullable(properties.getProperty(property)))
+            .ifPresent(value -> {
+              values.put(configuration, value);
+              typedValues.put(configuration, configuration.convert(value));
+            });
+      }
+      unknownProperties.addAll(properties.stringPropertyNames());
+      for (Configuration configuration : Configuration.values()) {
+        unknownProperties.remove(configuration.getProperty());
+      }
+    }
+
+    /**
+     * Gets the properties defined in the properties file, or its secrets file, which do not
+     * correspond to any {@link Configuration}. These are usually misspelt and therefore ignored.
+     *
+     * @return The unknown property names, in alphabetical order.
+     */
+    public Set<String> getUnknownProperties() {
+      return Collections.unmodifiableSet(unknownProperties);
     }
 
     /**
@@ -90,26 +138,17 @@ public class ConfigurationManager {
      *
      * @param configuration The enum of the configuration property.
      * @param strict        Indicates whether to throw an error if the property is not found.
-     * @return The value of the property.
+     * @return The value of the property, converted to the type of the configuration.
      * @throws NoSuchFieldError If the property is not found and strict mode is enabled.
      */
     private Object getConfiguration(Configuration configuration, boolean strict)
         throws NoSuchFieldError {
-      var property = configuration.getProperty();
-      var envProperty = getEnvNameForOperatingSystem(property);
-      Object config = Optional.ofNullable(System.getenv(envProperty))
-          .orElse(System.getProperty(property));
-
-      if (strict) {
-        return Optional.ofNullable(config)
-            .orElseGet(() ->
-                Optional.ofNullable(properties.get(property))
-                    .orElseThrow(
-                        () ->
-                            new NoSuchFieldError(
-                                String.format("No configuration value found for %s", property))));
+      var value = typedValues.get(configuration);
+      if (value == null && strict) {
+        throw new NoSuchFieldError(
+            String.format("No configuration value found for %s", configuration.getProperty()));
       }
-      return Optional.ofNullable(config).orElse(properties.get(property));
+      return value;
     }
 
     /**
@@ -120,9 +159,9 @@ public class ConfigurationManager {
      */
     public Boolean asFlag(Configuration configuration) {
       var configurationValue = getConfiguration(configuration, false);
-      return configurationValue == null
-          ? null
-          : Boolean.parseBoolean(String.valueOf(configurationValue));
+      return configurationValue == null || configurationValue instanceof Boolean
+          ? (Boolean) configurationValue
+          : Boolean.valueOf(values.get(configuration).trim());
     }
 
     /**
@@ -134,7 +173,8 @@ public class ConfigurationManager {
      * @return The boolean value of the property, or the default value if not found.
      */
     public boolean asFlag(Configuration configuration, boolean defaultValue) {
-      return Optional.ofNullable(asFlag(configuration)).orElse(defaultValue);
+      var flag = asFlag(configuration);
+      return flag == null ? defaultValue : flag;
     }
 
     /**
@@ -145,7 +185,8 @@ public class ConfigurationManager {
      * @throws NoSuchFieldError If the property is not found.
      */
     public boolean asRequiredFlag(Configuration configuration) throws NoSuchFieldError {
-      return Boolean.parseBoolean(String.valueOf(getConfiguration(configuration, true)));
+      getConfiguration(configuration, true);
+      return asFlag(configuration);
     }
 
     /**
@@ -155,8 +196,7 @@ public class ConfigurationManager {
      * @return The string value of the property, or null if not found.
      */
     public String asString(Configuration configuration) {
-      var configurationValue = getConfiguration(configuration, false);
-      return configurationValue == null ? null : String.valueOf(configurationValue);
+      return values.get(configuration);
     }
 
     /**
@@ -168,7 +208,8 @@ public class ConfigurationManager {
      * @return The string value of the property, or the default value if not found.
      */
     public String asString(Configuration configuration, String defaultValue) {
-      return Optional.ofNullable(asString(configuration)).orElse(defaultValue);
+      var value = values.get(configuration);
+      return value == null ? defaultValue : value;
     }
 
     /**
@@ -179,7 +220,8 @@ public class ConfigurationManager {
      * @throws NoSuchFieldError If the property is not found.
      */
     public String asRequiredString(Configuration configuration) throws NoSuchFieldError {
-      return String.valueOf(getConfiguration(configuration, true));
+      getConfiguration(configuration, true);
+      return values.get(configuration);
     }
 
     /**
@@ -190,9 +232,9 @@ public class ConfigurationManager {
      */
     public Integer asInteger(Configuration configuration) {
       var configurationValue = getConfiguration(configuration, false);
-      return configurationValue == null
-          ? null
-          : Integer.valueOf(String.valueOf(configurationValue));
+      return configurationValue == null || configurationValue instanceof Integer
+          ? (Integer) configurationValue
+          : Integer.valueOf(values.get(configuration).trim());
     }
 
     /**
@@ -204,7 +246,8 @@ public class ConfigurationManager {
      * @return The integer value of the property, or the default value if not found.
      */
     public Integer asInteger(Configuration configuration, Integer defaultValue) {
-      return Optional.ofNullable(asInteger(configuration)).orElse(defaultValue);
+      var value = asInteger(configuration);
+      return value == null ? defaultValue : value;
     }
 
     /**
@@ -215,10 +258,11 @@ public class ConfigurationManager {
      * @throws NoSuchFieldError If the property is not found.
      */
     public Integer asRequiredInteger(Configuration configuration) throws NoSuchFieldError {
-      return Integer.valueOf(String.valueOf(getConfiguration(configuration, true)));
+      getConfiguration(configuration, true);
+      return asInteger(configuration);
     }
 
-    private String getEnvNameForOperatingSystem(String env) {
+    private static String getEnvNameForOperatingSystem(String env) {
       if (Objects.equals(System.getenv("AGENT_OS"), "Linux")) {
         return env.toUpperCase();
       }
@@ -230,10 +274,11 @@ public class ConfigurationManager {
      * Attempts to load file {@code <environment-name>.env.secrets} into properties. Secret values
      * take precedence.
      *
-     * @param path The path to the environment file, assumes convention
-     *             {@code <environment-name>.env.properties}.
+     * @param properties The properties loaded from the properties file.
+     * @param path       The path to the environment file, assumes convention
+     *                   {@code <environment-name>.env.properties}.
      */
-    private void overwriteSecrets(String path) {
+    private static void overwriteSecrets(Properties properties, String path) {
       var secretsPath = path != null ? path.replace(".properties", ".secrets") : null;
       if (secretsPath != null && new File(secretsPath).exists()) {
         try (FileInputStream secrets = new FileInputStream(secretsPath)) {
@@ -2,8 +2,8 @@ package playwright.managers;
 
 import enums.PageDefinition;
 import exceptions.ConfigurationException;
-import io.cucumber.java.After;
-import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * Manages the current page definition within the application.
@@ -13,6 +13,8 @@ public class PageManager {
 
   private static PageManager instance;
   private final ThreadLocal<PageDefinition> currentPage = new ThreadLocal<>();
+  private final ThreadLocal<Map<PageDefinition, Object>> pageObjects =
+      ThreadLocal.withInitial(() -> new EnumMap<>(PageDefinition.class));
 
   /**
    * Returns the singleton instance of the PageManager.
@@ -66,6 +68,21 @@ public class PageManager {
     return getPage(PageDefinition.get(page));
   }
 
+  /**
+   * Sets the current page to the provided page name and returns its page object cast to the
+   * specified type. Each page object is created once per scenario and reused by later steps.
+   *
+   * @param page   The name of the page.
+   * @param castTo The target class type.
+   * @param <T>    The type to cast to.
+   * @return The page object of the current scenario.
+   */
+  public <T> T getPage(String page, Class<T> castTo) {
+    var definition = getPage(page);
+    return castTo.cast(
+        pageObjects.get().computeIfAbsent(definition, key -> key.as(Object.class)));
+  }
+
   /**
    * Checks if a page exists with the specified name.
    *
@@ -73,16 +90,15 @@ public class PageManager {
    * @return True if the page exists, false otherwise.
    */
   public Boolean exists(String pageName) {
-    return Arrays.stream(PageDefinition.values())
-        .anyMatch(x -> x.getName().equals(pageName));
+    return PageDefinition.find(pageName).isPresent();
   }
 
   /**
-   * Cleans up resources after each scenario.
+   * Cleans up resources after each scenario, discarding the scenario's page objects.
    */
-  @After
   public void shutdown() {
     currentPage.remove();
+    pageObjects.remove();
   }
 
   /**
@@ -8,6 +8,7 @@ import com.microsoft.playwright.BrowserContext;
 import com.microsoft.playwright.BrowserType;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.PlaywrightException;
 import com.microsoft.playwright.Tracing;
 import com.microsoft.playwright.assertions.PlaywrightAssertions;
 import devices.Device;
@@ -16,11 +17,25 @@ import exceptions.ConfigurationException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import loggers.FileLogger;
+import metrics.SpanKind;
+import metrics.Timings;
+import metrics.events.BrowserCloseEvent;
+import metrics.events.BrowserLaunchEvent;
 
 /**
  * Singleton class to manage Playwright instances and browser configurations.
@@ -32,16 +47,31 @@ public class PlaywrightManager {
   private static final String WEBKIT_BROWSER_NAME = "webkit";
   private static final String CHROME_BROWSER_NAME = "chrome";
   private static final String EDGE_BROWSER_NAME = "edge";
+  private static final List<String> BROWSER_NAMES = List.of(CHROME_BROWSER_NAME,
+      EDGE_BROWSER_NAME, CHROMIUM_BROWSER_NAME, FIREFOX_BROWSER_NAME, WEBKIT_BROWSER_NAME);
   private static PlaywrightManager instance;
   private final ThreadLocal<Browser> browserThreadLocal = new ThreadLocal<>();
+  private final ThreadLocal<BrowserPool.Key> browserKeyThreadLocal = new ThreadLocal<>();
   private final ThreadLocal<BrowserContext> contextThreadLocal = new ThreadLocal<>();
   private final ThreadLocal<Page> pageThreadLocal = new ThreadLocal<>();
   private final ThreadLocal<Playwright> playwrightThreadLocal = new ThreadLocal<>();
+  private final Queue<Playwright> playwrightInstances = new ConcurrentLinkedQueue<>();
+  private final Queue<WarmWorker> warmWorkers = new ConcurrentLinkedQueue<>();
+  private final Map<Thread, WorkerSession> workerSessions = new ConcurrentHashMap<>();
   private final ConfigurationManager.PropertyHandler getProperty =
       ConfigurationManager.get().configuration();
+  private final BrowserPool browserPool = new BrowserPool(
+      getProperty.asInteger(Configuration.BROWSER_RECYCLE_LIMIT, 0),
+      getProperty.asInteger(Configuration.MAX_CONCURRENT_BROWSER_LAUNCHES, 2));
+  private final AtomicInteger scenarios = new AtomicInteger();
+  private final AtomicInteger browserFreeScenarios = new AtomicInteger();
+  private final AtomicInteger prewarmedWorkers = new AtomicInteger();
+  private final AtomicLong prewarmNanos = new AtomicLong();
+  private final Queue<String> prewarmTimings = new ConcurrentLinkedQueue<>();
   private final Gson gson = new Gson();
   private Map<String, Device> deviceInformation;
   private Device device;
+  private volatile boolean shutDown;
 
   private PlaywrightManager(String browser) {
     if (!isSupportedBrowser(browser)) {
@@ -78,17 +108,93 @@ public class PlaywrightManager {
   }
 
   /**
-   * Retrieves the current Playwright instance for the current thread.
+   * Retrieves the current Playwright instance for the current thread. The first call on a thread
+   * claims an instance created by {@link #prewarm(int)} if one is available, otherwise a new
+   * instance is created.
    *
    * @return The current Playwright instance.
+   * @throws IllegalStateException if the manager has been shut down.
    */
   public Playwright playwright() {
+    if (shutDown) {
+      throw new IllegalStateException("Playwright manager has been shut down");
+    }
+    var session = workerSession();
+    if (session.killed) {
+      session.killed = false;
+      Optional.ofNullable(playwrightThreadLocal.get()).ifPresent(killed -> {
+        playwrightInstances.remove(killed);
+        closeQuietly(killed::close);
+      });
+      playwrightThreadLocal.remove();
+    }
     if (this.playwrightThreadLocal.get() == null) {
-      playwrightThreadLocal.set(Playwright.create());
+      var warmWorker = warmWorkers.poll();
+      if (warmWorker != null) {
+        playwrightThreadLocal.set(warmWorker.playwright());
+        browserPool.adopt(warmWorker.key(), warmWorker.browser());
+      } else {
+        var playwright = Playwright.create();
+        playwrightInstances.add(playwright);
+        playwrightThreadLocal.set(playwright);
+      }
+      session.driver = driverProcess(playwrightThreadLocal.get());
     }
     return this.playwrightThreadLocal.get();
   }
 
+  /**
+   * Creates a Playwright instance and launches a browser for each worker concurrently, so that the
+   * driver and browser start-up cost is paid once before the first scenario rather than inside the
+   * first scenario of every worker.
+   *
+   * <p>Each pre-warmed instance is handed over to the first worker thread which requests one. The
+   * hand-over happens through a concurrent queue and the creating thread never touches the
+   * instance again, so each instance is still only used by one thread at a time.</p>
+   *
+   * <p>The time taken, and how long each worker took to start Playwright and launch its browser,
+   * are included in the {@link #report()} at the end of the run.</p>
+   *
+   * @param workers The number of worker threads to pre-warm.
+   * @throws ConfigurationException if a Playwright instance or browser fails to start.
+   */
+  public void prewarm(int workers) {
+    var key = getBrowserKey(getProperty.asRequiredString(Configuration.BROWSER));
+    var start = System.nanoTime();
+    var executor = Executors.newFixedThreadPool(workers);
+    try {
+      CompletableFuture.allOf(IntStream.range(0, workers)
+              .mapToObj(worker -> CompletableFuture.runAsync(() -> prewarmWorker(worker, key),
+                  executor))
+              .toArray(CompletableFuture[]::new))
+          .join();
+    } catch (CompletionException e) {
+      throw new ConfigurationException("Unable to pre-warm the Playwright workers", e.getCause());
+    } finally {
+      executor.shutdown();
+    }
+    prewarmedWorkers.addAndGet(workers);
+    prewarmNanos.addAndGet(System.nanoTime() - start);
+  }
+
+  /**
+   * Creates a single Playwright instance and browser, queuing them for a worker thread to claim.
+   *
+   * @param worker The index of the worker being pre-warmed.
+   * @param key    The browser type and launch options.
+   */
+  private void prewarmWorker(int worker, BrowserPool.Key key) {
+    var start = System.nanoTime();
+    var playwright = Playwright.create();
+    playwrightInstances.add(playwright);
+    var created = System.nanoTime();
+    var browser = browserPool.launch(key, launchKey -> launchBrowser(playwright, launchKey));
+    warmWorkers.add(new WarmWorker(playwright, key, browser));
+    prewarmTimings.add(String.format("Worker %d: Playwright created in %d ms, %s launched in %d ms",
+        worker, (created - start) / 1_000_000, key.browserType(),
+        (System.nanoTime() - created) / 1_000_000));
+  }
+
   /**
    * Retrieves the current browser instance for the current thread.
    *
@@ -202,43 +308,227 @@ public class PlaywrightManager {
       context.tracing().start(new Tracing.StartOptions().setScreenshots(true).setSnapshots(true));
     }
     this.contextThreadLocal.set(context);
+    workerSession().context = context;
     return context;
   }
 
   /**
-   * Launches the browser specified with the {@code browser} property defined within configuration
-   * or CLI properties.
+   * Acquires a warm browser from the {@link BrowserPool} for the browser specified with the
+   * {@code browser} property defined within configuration or CLI properties. A new browser is only
+   * launched when the current thread has no connected browser for that configuration.
    */
   public void launchBrowser() {
-    String browser = getProperty.asRequiredString(Configuration.BROWSER);
-    browserThreadLocal.set(
-        Optional.ofNullable(getBrowser(browser)).orElseGet(() -> getCustomDevice(browser)));
+    playwright();
+    var key = getBrowserKey(getProperty.asRequiredString(Configuration.BROWSER));
+    browserKeyThreadLocal.set(key);
+    browserThreadLocal.set(browserPool.acquire(key, this::getBrowser));
+    workerSession().browserType = key.browserType();
+  }
+
+  /**
+   * Launches a new browser instance for the specified pool key.
+   *
+   * @param playwright The Playwright instance to launch the browser with.
+   * @param key        The browser type and launch options.
+   * @return The browser instance.
+   */
+  private Browser launchBrowser(Playwright playwright, BrowserPool.Key key) {
+    var event = new BrowserLaunchEvent();
+    event.browser = key.browserType();
+    event.headless = key.headless();
+    event.begin();
+    var span = Timings.get().start(SpanKind.BROWSER_LAUNCH, key.browserType());
+    BrowserType.LaunchOptions options =
+        new BrowserType.LaunchOptions().setHeadless(key.headless());
+    var browser = switch (key.browserType()) {
+      case CHROMIUM_BROWSER_NAME -> playwright.chromium().launch(options);
+      case FIREFOX_BROWSER_NAME -> playwright.firefox().launch(options);
+      case WEBKIT_BROWSER_NAME -> playwright.webkit().launch(options);
+      case CHROME_BROWSER_NAME ->
+          playwright.chromium().launch(options.setChannel("chrome")); //NOSONAR
+      case EDGE_BROWSER_NAME -> playwright.chromium().launch(options.setChannel("msedge"));
+      default -> throw new NoSuchElementException(
+          String.format("%s Browser unsupported", key.browserType()));
+    };
+    span.close();
+    event.commit();
+    return browser;
   }
 
   /**
-   * Ends the current test session.
+   * Ends the current test session. The page and browser context are closed while the browser is
+   * returned to the {@link BrowserPool} so that it can be reused by the next scenario. Scenarios
+   * which never requested a browser are counted, see {@link #report()}.
    */
   public void endTest() {
+    scenarios.incrementAndGet();
+    if (!hasBrowserLaunched()) {
+      browserFreeScenarios.incrementAndGet();
+    }
+    workerSession().browserType = null;
     if (hasPageBeenSet()) {
-      pageThreadLocal.get().close();
+      closeQuietly(pageThreadLocal.get()::close);
       pageThreadLocal.remove();
     }
     if (hasContextBeenSet()) {
-      contextThreadLocal.get().close();
+      workerSession().context = null;
+      closeQuietly(contextThreadLocal.get()::close);
       contextThreadLocal.remove();
     }
     if (hasBrowserLaunched()) {
-      browserThreadLocal.get().close();
+      browserPool.release(browserKeyThreadLocal.get());
       browserThreadLocal.remove();
+      browserKeyThreadLocal.remove();
     }
   }
 
   /**
-   * Shuts down playwright.
+   * Closes the browser context, and with it the pages, in use by the given worker thread. Intended
+   * to be called from a monitoring thread to release a worker which did not respond to being
+   * interrupted, while keeping its browser for the next scenario.
+   *
+   * <p>This is the one call made on a worker's Playwright objects from another thread. Playwright
+   * is not thread-safe, so the close may fail or hang while the worker is blocked on the same
+   * connection; either way the failure is reported and the browser is killed by the next
+   * escalation step.</p>
+   *
+   * @param worker The worker thread.
+   * @return What was done, for the escalation event.
    */
-  public void shutdown() {
-    playwright().close();
+  public String closeContext(Thread worker) {
+    var session = workerSessions.get(worker);
+    var context = session == null ? null : session.context;
+    if (context == null) {
+      return "no browser context open";
+    }
+    try {
+      context.close();
+      return "browser context closed";
+    } catch (PlaywrightException e) {
+      return String.format("closing the browser context failed: %s", e.getMessage());
+    }
+  }
+
+  /**
+   * Kills the processes of the Playwright driver in use by the given worker thread, and of the
+   * browsers it launched, by PID. Intended to be called from a monitoring thread to release a
+   * worker which is blocked inside a Playwright call, so no Playwright object is touched: the call
+   * the worker is blocked in fails as the driver connection closes, and the worker closes what is
+   * left of its session, creates a new Playwright instance and launches a fresh browser for its
+   * next scenario.
+   *
+   * @param worker The worker thread.
+   * @return What was done, for the escalation event.
+   */
+  public String killBrowser(Thread worker) {
+    var session = workerSessions.get(worker);
+    if (session == null) {
+      return "no Playwright instance in use";
+    }
+    if (session.driver == null) {
+      FileLogger.log().warning("Unable to kill the browser of %s, its Playwright driver process "
+          + "was not found", worker.getName());
+      return "driver process not found, nothing killed";
+    }
+    session.killed = true;
+    var event = new BrowserCloseEvent();
+    event.browser = session.browserType;
+    event.reason = "killed";
+    event.begin();
+    session.driver.descendants().forEach(ProcessHandle::destroyForcibly);
+    session.driver.destroyForcibly();
+    event.commit();
+    return String.format("killed driver process %d and its browsers", session.driver.pid());
+  }
+
+  /**
+   * Finds the process of the Playwright driver behind a Playwright instance. The Java API does not
+   * expose it, so it is read from the implementation, which keeps the process it started. A
+   * warning is logged if it cannot be found, as a hung worker then cannot be released by killing
+   * its browser.
+   *
+   * @param playwright The Playwright instance.
+   * @return The driver process, or null if it cannot be found.
+   */
+  @SuppressWarnings("java:S3011")
+  private static ProcessHandle driverProcess(Playwright playwright) {
+    try {
+      var field = playwright.getClass().getDeclaredField("driverProcess");
+      field.setAccessible(true);
+      if (field.get(playwright) instanceof Process process) {
+        return process.toHandle();
+      }
+      FileLogger.log().warning("%s has no Playwright driver process to kill if a scenario hangs",
+          playwright.getClass().getName());
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      FileLogger.log().warning("Unable to find the Playwright driver process to kill if a scenario "
+          + "hangs: %s", e);
+    }
+    return null;
+  }
+
+  /**
+   * Retrieves the cross-thread view of the current worker's Playwright resources.
+   *
+   * @return The worker session for the current thread.
+   */
+  private WorkerSession workerSession() {
+    return workerSessions.computeIfAbsent(Thread.currentThread(), thread -> new WorkerSession());
+  }
+
+  /**
+   * Runs a close action, ignoring failures caused by the connection having already gone.
+   *
+   * @param close The close action.
+   */
+  private void closeQuietly(Runnable close) {
+    try {
+      close.run();
+    } catch (PlaywrightException e) {
+      // Already closed or the browser has been killed
+    }
+  }
+
+  /**
+   * Shuts down playwright, closing all pooled browsers and every Playwright instance created by
+   * the worker threads.
+   *
+   * <p>Playwright objects are confined to the thread which created them, but the worker threads of
+   * the run have no hook of their own once their last scenario ends, so they are closed here, from
+   * the thread which ends the run. This must only be called once every scenario has finished, from
+   * {@code @AfterAll} or by the rerunner, so that no worker is using its instances any more. The
+   * instances are closed one at a time under the manager's lock, and no instance is handed out once
+   * the manager has been shut down.</p>
+   */
+  public synchronized void shutdown() {
+    shutDown = true;
+    browserPool.shutdown();
+    Playwright playwright;
+    while ((playwright = playwrightInstances.poll()) != null) {
+      closeQuietly(playwright::close);
+    }
     playwrightThreadLocal.remove();
+    System.out.println(browserPool.report());
+    System.out.println(report());
+  }
+
+  /**
+   * Reports how many browsers were launched against the number of scenarios run, and how many of
+   * those scenarios never requested a browser, context or page. Pre-warmed browsers are launched
+   * whether or not a scenario goes on to use them, so those never claimed by a worker are counted
+   * too, along with how long pre-warming took.
+   *
+   * @return The report.
+   */
+  public String report() {
+    var report = String.format("Browser launches: %d for %d scenarios, %d of which did not use a "
+            + "browser; %d pre-warmed browsers were never claimed", browserPool.launches(),
+        scenarios.get(), browserFreeScenarios.get(), warmWorkers.size());
+    if (prewarmedWorkers.get() == 0) {
+      return report;
+    }
+    return report + String.format("%nPre-warmed %d workers in %d ms%n%s", prewarmedWorkers.get(),
+        prewarmNanos.get() / 1_000_000, String.join(System.lineSeparator(), prewarmTimings));
   }
 
   /**
@@ -249,9 +539,7 @@ public class PlaywrightManager {
    * @throws ConfigurationException if an error occurs while reading the custom device descriptors
    */
   public boolean isSupportedBrowser(String browser) {
-    if (Arrays.asList(CHROME_BROWSER_NAME, EDGE_BROWSER_NAME, CHROMIUM_BROWSER_NAME,
-            FIREFOX_BROWSER_NAME, WEBKIT_BROWSER_NAME)
-        .contains(browser.toLowerCase())) {
+    if (BROWSER_NAMES.contains(browser.toLowerCase())) {
       return true;
     }
     try {
@@ -267,40 +555,43 @@ public class PlaywrightManager {
   }
 
   /**
-   * Retrieves the browser instance based on the specified browser name.
+   * Resolves the pool key for the specified browser name. Custom devices resolve to the key of
+   * their default browser type.
    *
-   * @param browser The name of the browser.
+   * @param browser The name of the browser or custom device.
+   * @return The browser pool key.
+   */
+  private BrowserPool.Key getBrowserKey(String browser) {
+    var browserType = BROWSER_NAMES.contains(browser.toLowerCase())
+        ? browser
+        : getCustomDevice(browser).defaultBrowserType();
+    return new BrowserPool.Key(
+        browserType.toLowerCase(), getProperty.asFlag(Configuration.HEADLESS, true));
+  }
+
+  /**
+   * Launches a new browser instance for the specified pool key on the current thread's Playwright
+   * instance.
+   *
+   * @param key The browser type and launch options.
    * @return The browser instance.
    */
-  private Browser getBrowser(String browser) {
-    var headless = getProperty.asFlag(Configuration.HEADLESS, true);
-    BrowserType.LaunchOptions options =
-        new BrowserType.LaunchOptions().setHeadless(headless);
-    return switch (browser.toLowerCase()) {
-      case CHROMIUM_BROWSER_NAME -> playwright().chromium().launch(options);
-      case FIREFOX_BROWSER_NAME -> playwright().firefox().launch(options);
-      case WEBKIT_BROWSER_NAME -> playwright().webkit().launch(options);
-      case CHROME_BROWSER_NAME ->
-          playwright().chromium().launch(options.setChannel("chrome")); //NOSONAR
-      case EDGE_BROWSER_NAME -> playwright().chromium().launch(options.setChannel("msedge"));
-      default -> null;
-    };
+  private Browser getBrowser(BrowserPool.Key key) {
+    return launchBrowser(playwright(), key);
   }
 
   /**
-   * Retrieves a custom device instance based on the specified browser name.
+   * Retrieves a custom device based on the specified browser name.
    *
    * <p>Reads in the <b>deviceDescriptors.json</b> list and deserialises the JSON object
    * corresponding to the specified browser into a {@link Device}.
    *
    * @param browser The name of the browser.
-   * @return The browser instance.
+   * @return The custom device.
    */
-  private Browser getCustomDevice(String browser) {
+  private Device getCustomDevice(String browser) {
     device = deviceInformation.get(browser);
-    return Optional.ofNullable(getBrowser(device.defaultBrowserType()))
-        .orElseThrow(
-            () -> new NoSuchElementException(String.format("%s Browser unsupported", browser)));
+    return device;
   }
 
   /**
@@ -340,4 +631,27 @@ public class PlaywrightManager {
     browserContext().tracing().stop(new Tracing.StopOptions().setPath(path));
   }
 
+  /**
+   * A pre-warmed Playwright instance and browser waiting to be claimed by a worker thread.
+   *
+   * @param playwright The Playwright instance.
+   * @param key        The browser type and launch options.
+   * @param browser    The launched browser.
+   */
+  private record WarmWorker(Playwright playwright, BrowserPool.Key key, Browser browser) {
+
+  }
+
+  /**
+   * The processes of a worker thread's Playwright driver, visible to other threads so that a hung
+   * worker can be released without touching its Playwright objects.
+   */
+  private static final class WorkerSession {
+
+    private volatile ProcessHandle driver;
+    private volatile BrowserContext context;
+    private volatile String browserType;
+    private volatile boolean killed;
+  }
+
 }
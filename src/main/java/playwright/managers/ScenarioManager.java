@@ -3,8 +3,7 @@ package playwright.managers;
 import com.microsoft.playwright.Page.ScreenshotOptions;
 import enums.Configuration;
 import io.cucumber.java.Scenario;
-import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.regex.Pattern;
@@ -56,7 +55,6 @@ public class ScenarioManager {
    * @param scenario the current Cucumber scenario.
    */
   public void endScenario(Scenario scenario) {
-    var logFileName = FileLogger.instance().getLogFileName();
     var traceAlways = configuration.asFlag(Configuration.TRACE_ALWAYS, false);
     var traceOnFailure = (configuration.asFlag(Configuration.TRACE_ON_FAILURE, false)
         && scenario.isFailed());
@@ -65,20 +63,20 @@ public class ScenarioManager {
       attachTrace(scenario, name);
       attachScreenshot(scenario, name);
     }
-    attachLog(scenario, logFileName);
+    attachLog(scenario);
     attachVideo(scenario);
     scenarioThreadLocal.remove();
   }
 
   /**
-   * If a browser exists, attaches a trace file to the scenario and creates a link to this within
-   * reports.
+   * If a browser context was created, attaches a trace file to the scenario and creates a link to
+   * this within reports.
    *
    * @param scenario The scenario to which the trace will be attached.
    * @param name     The name of the scenario.
    */
   private void attachTrace(Scenario scenario, String name) {
-    if (PlaywrightManager.get().hasBrowserLaunched()) {
+    if (PlaywrightManager.get().hasContextBeenSet()) {
       try {
         Path path = Paths.get(String.format("target/trace/%s-%s.zip", name, scenario.getId()));
         String linkHtml = """
@@ -135,14 +133,14 @@ public class ScenarioManager {
 
 
   /**
-   * If a browser exists, attaches a screenshot to the scenario.
+   * If a page was opened, attaches a screenshot to the scenario.
    *
    * @param scenario The scenario to which the trace will be attached.
    * @param name     The name of the scenario.
    */
   private void attachScreenshot(Scenario scenario, String name) {
     try {
-      if (PlaywrightManager.get().hasBrowserLaunched()) {
+      if (PlaywrightManager.get().hasPageBeenSet()) {
         byte[] screenshot = PlaywrightManager.get().page()
             .screenshot(new ScreenshotOptions().setFullPage(true));
         scenario.attach(screenshot, "image/png", String.format("%s-final-screenshot", name));
@@ -153,36 +151,32 @@ public class ScenarioManager {
   }
 
   /**
-   * Attaches the log file to the scenario if logging is enabled.
+   * Writes the buffered scenario log to its file and attaches it to the scenario if logging is
+   * enabled. Passing scenarios which only log on failure never touch the disk.
    *
-   * @param scenario    The scenario to which the log will be attached.
-   * @param logFileName The name of the log file.
+   * @param scenario The scenario to which the log will be attached.
    */
-  private void attachLog(Scenario scenario, String logFileName) {
+  private void attachLog(Scenario scenario) {
     var logAlways = configuration.asFlag(Configuration.LOG_TO_FILE_ALWAYS, false);
     var logOnFailure = (scenario.isFailed() && configuration.asFlag(
         Configuration.LOG_TO_FILE_ON_FAILURE, false));
     if (logAlways || logOnFailure) {
-      try {
-        var logFilePath = Path.of(logFileName);
-        var logFile = new String(Files.readAllBytes(logFilePath));
-        scenario.attach(
-            logFile.getBytes(),
-            "text/plain",
-            logFilePath.getFileName().toString());
-      } catch (IOException e) {
-        FileLogger.log().warning("Failed to attach log file %s", logFileName);
-      }
+      var logFilePath = Path.of(FileLogger.instance().getLogFileName());
+      FileLogger.instance().spillScenarioLog().ifPresent(log -> scenario.attach(
+          log.getBytes(StandardCharsets.UTF_8),
+          "text/plain",
+          logFilePath.getFileName().toString()));
     }
   }
 
   /**
-   * Attaches a video file to the scenario if video recording is enabled.
+   * Attaches a video file to the scenario if video recording is enabled and a page was opened.
    *
    * @param scenario The scenario to which the video will be attached.
    */
   private void attachVideo(Scenario scenario) {
-    if (configuration.asFlag(Configuration.VIDEO_ALWAYS, false)) {
+    if (configuration.asFlag(Configuration.VIDEO_ALWAYS, false)
+        && PlaywrightManager.get().hasPageBeenSet()) {
       var videoPath = PlaywrightManager.get().page().video().path().toString();
       int start = videoPath.indexOf("target");
       var relativePath = Path.of(videoPath.substring(start));
@@ -0,0 +1,172 @@
+package playwright.navigation;
+
+import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
+
+import com.microsoft.playwright.Page.NavigateOptions;
+import com.microsoft.playwright.options.WaitUntilState;
+import enums.Configuration;
+import enums.PageDefinition;
+import exceptions.UnexpectedStatusCodeException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+import loggers.FileLogger;
+import metrics.SpanKind;
+import metrics.Timings;
+import metrics.events.NavigationEvent;
+import org.opentest4j.AssertionFailedError;
+import playwright.interfaces.NavigateTo;
+import playwright.managers.ConfigurationManager;
+import utils.TimeLimit;
+
+/**
+ * Navigation engine used by {@link NavigateTo} pages.
+ *
+ * <p>Navigation is skipped when the page is already at the target URL, route patterns are compiled
+ * once per page class and navigation waits for {@code navigationWaitUntil} (DOMCONTENTLOADED by
+ * default) followed by the page's own {@link NavigateTo#waitForPageReadyState()}, rather than the
+ * full LOAD event. Every navigation is recorded as a {@link SpanKind#NAVIGATION} span and, when
+ * enabled, the browser's own page load metrics are captured by {@link PageLoadRecorder} and checked
+ * by the {@link PerformanceGate}.</p>
+ */
+public final class Navigator {
+
+  private static final ClassValue<Map<String, Pattern>> ROUTE_PATTERNS = new ClassValue<>() {
+    @Override
+    protected Map<String, Pattern> computeValue(Class<?> pageClass) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  private Navigator() {
+  }
+
+  /**
+   * Creates the default navigation options, waiting for the configured {@code navigationWaitUntil}
+   * state.
+   *
+   * @return The default navigation options.
+   */
+  public static NavigateOptions defaultOptions() {
+    return new NavigateOptions().setWaitUntil(WaitUntilState.valueOf(
+        ConfigurationManager.get().configuration()
+            .asString(Configuration.NAVIGATION_WAIT_UNTIL, WaitUntilState.DOMCONTENTLOADED.name())
+            .toUpperCase()));
+  }
+
+  /**
+   * Navigates the page to the specified route under the base URL specified in the configuration.
+   * Navigation is retried until the URL matches the route and the response is successful, or the
+   * navigation timeout is reached.
+   *
+   * @param page    The page to navigate.
+   * @param route   The route to navigate to.
+   * @param options Navigation options.
+   * @throws UnexpectedStatusCodeException if navigation does not succeed within the timeout.
+   */
+  public static void navigate(NavigateTo page, String route, NavigateOptions options) {
+    String url = String.format("%s%s", ConfigurationManager.get().environment().asString(
+            Configuration.BASE_URL),
+        Optional.ofNullable(route).orElse(""));
+    var pattern = routePattern(page.getClass(), route);
+    var event = new NavigationEvent();
+    event.page = pageName(page);
+    event.url = url;
+    event.begin();
+    boolean navigated;
+    try (var ignored = Timings.get().start(SpanKind.NAVIGATION, "navigate", event.page)) {
+      navigated = !isAlreadyAt(page, url);
+      if (navigated) {
+        navigate(page, url, route, pattern, options);
+      } else {
+        FileLogger.log().fine("Already at %s, skipping navigation", url);
+      }
+      page.waitForPageReadyState();
+    }
+    event.skipped = !navigated;
+    event.commit();
+    if (navigated && PageLoadRecorder.isEnabled()) {
+      var pageLoad = PageLoadRecorder.instance().capture(page);
+      PerformanceGate.get().check(pageLoad, PageDefinition.forClass(page.getClass())
+          .map(PageDefinition::getPerformanceBudget)
+          .orElse(PerformanceBudget.none()));
+    }
+  }
+
+  private static void navigate(NavigateTo page, String url, String route, Pattern pattern,
+      NavigateOptions options) {
+    AtomicReference<Integer> navigationResponse = new AtomicReference<>();
+    TimeLimit.of(Duration.ofMillis(ConfigurationManager.get().configuration()
+            .asInteger(Configuration.NAVIGATION_TIMEOUT, 20_000)))
+        .doWhileFalse(() -> {
+          var response = page.getPage().navigate(url, options);
+          if (pattern != null) {
+            if (!pattern.matcher(page.getPage().url()).find()) {
+              return false;
+            }
+            try {
+              assertThat(page.getPage()).hasURL(pattern);
+            } catch (AssertionFailedError failed) {
+              return false;
+            }
+          }
+          if (response != null) {
+            navigationResponse.set(response.status());
+          }
+          if (navigationResponse.get() != null && response == null) {
+            return false;
+          }
+          return response == null || response.ok();
+        }, () -> new UnexpectedStatusCodeException(200, navigationResponse.get(), route));
+  }
+
+  /**
+   * Gets the name the page is configured with in {@link PageDefinition}, or its class name.
+   *
+   * @param page The page.
+   * @return The page name.
+   */
+  public static String pageName(NavigateTo page) {
+    return PageDefinition.forClass(page.getClass())
+        .map(PageDefinition::getName)
+        .orElse(page.getClass().getSimpleName());
+  }
+
+  /**
+   * Checks whether the page is already at the target URL, ignoring a trailing slash.
+   *
+   * @param page The page to check.
+   * @param url  The target URL.
+   * @return true if navigation can be skipped.
+   */
+  private static boolean isAlreadyAt(NavigateTo page, String url) {
+    if (!ConfigurationManager.get().configuration()
+        .asFlag(Configuration.SKIP_NAVIGATION_IF_ON_PAGE, true)) {
+      return false;
+    }
+    return stripTrailingSlash(page.getPage().url()).equals(stripTrailingSlash(url));
+  }
+
+  private static String stripTrailingSlash(String url) {
+    return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+  }
+
+  /**
+   * Retrieves the compiled pattern for a route, compiling it only on first use for each page
+   * class.
+   *
+   * @param pageClass The page class the route belongs to.
+   * @param route     The route.
+   * @return The compiled pattern, or null if the route is empty.
+   */
+  private static Pattern routePattern(Class<?> pageClass, String route) {
+    if (route == null || route.isEmpty()) {
+      return null;
+    }
+    return ROUTE_PATTERNS.get(pageClass)
+        .computeIfAbsent(route, key -> Pattern.compile(key.replace("/", "\\/")));
+  }
+}
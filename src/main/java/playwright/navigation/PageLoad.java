@@ -0,0 +1,28 @@
+package playwright.navigation;
+
+import java.util.Map;
+
+/**
+ * The page load metrics measured by the browser after navigating to a page.
+ *
+ * <p>Metrics are keyed by name, in milliseconds unless stated otherwise:</p>
+ * <ul>
+ *   <li>{@code timeToFirstByte}, {@code domContentLoaded} and {@code load} from the navigation
+ *   timing entry.</li>
+ *   <li>{@code firstPaint} and {@code firstContentfulPaint} from the paint timing entries.</li>
+ *   <li>{@code largestContentfulPaint}.</li>
+ *   <li>{@code cumulativeLayoutShift}, a unitless score.</li>
+ *   <li>{@code transferBytes} and {@code requestCount} for the document and its resources.</li>
+ * </ul>
+ *
+ * <p>A metric the browser did not report, for example {@code largestContentfulPaint} on a browser
+ * without it, is absent rather than 0.</p>
+ *
+ * @param page    The name of the {@link enums.PageDefinition}, or the page class name.
+ * @param device  The browser or device the page was loaded on.
+ * @param url     The URL that was loaded.
+ * @param metrics The measured metrics.
+ */
+public record PageLoad(String page, String device, String url, Map<String, Double> metrics) {
+
+}
@@ -0,0 +1,245 @@
+package playwright.navigation;
+
+import com.google.gson.Gson;
+import com.microsoft.playwright.Page.WaitForLoadStateOptions;
+import com.microsoft.playwright.TimeoutError;
+import com.microsoft.playwright.options.LoadState;
+import enums.Configuration;
+import exceptions.ConfigurationException;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import playwright.interfaces.NavigateTo;
+import playwright.managers.ConfigurationManager;
+import playwright.managers.ScenarioManager;
+
+/**
+ * Captures navigation timing, paint timing, web vitals and transfer sizes after each page visit.
+ *
+ * <p>Navigation usually only waits for DOMContentLoaded, so the capture first waits for the load
+ * event and gives the largest contentful paint up to a second to be reported. Metrics the browser
+ * still has not reported are left out rather than recorded as 0, so they do not skew the
+ * percentiles.</p>
+ *
+ * <p>Every {@link PageLoad} is appended as a JSON line to
+ * {@code target/metrics/page-load-<run>.jsonl}, attached to the running scenario and kept in
+ * memory so percentiles per page and device can be reported at the end of the run.</p>
+ */
+@SuppressWarnings("java:S6548")
+public class PageLoadRecorder {
+
+  private static final String METRICS_FOLDER = "target/metrics";
+  private static final String CAPTURE_SCRIPT = """
+      () => new Promise(resolve => {
+        const largestPaints = [];
+        const layoutShifts = [];
+        const observe = (type, entries) => {
+          try {
+            new PerformanceObserver(list => entries.push(...list.getEntries()))
+                .observe({type, buffered: true});
+            return true;
+          } catch (e) {
+            // Entry type not supported by this browser
+            return false;
+          }
+        };
+        const observesPaints = observe('largest-contentful-paint', largestPaints);
+        const observesShifts = observe('layout-shift', layoutShifts);
+        const started = performance.now();
+        const capture = () => {
+          if (observesPaints && !largestPaints.length && performance.now() - started < 1000) {
+            setTimeout(capture, 50);
+            return;
+          }
+          const navigation = performance.getEntriesByType('navigation')[0] || {};
+          const paint = name =>
+              (performance.getEntriesByName(name, 'paint')[0] || {}).startTime || null;
+          const resources = performance.getEntriesByType('resource');
+          resolve({
+            timeToFirstByte: navigation.responseStart || null,
+            domContentLoaded: navigation.domContentLoadedEventEnd || null,
+            load: navigation.loadEventEnd || null,
+            firstPaint: paint('first-paint'),
+            firstContentfulPaint: paint('first-contentful-paint'),
+            largestContentfulPaint: largestPaints.length
+                ? largestPaints[largestPaints.length - 1].startTime : null,
+            cumulativeLayoutShift: observesShifts
+                ? layoutShifts.filter(shift => !shift.hadRecentInput)
+                    .reduce((total, shift) => total + shift.value, 0)
+                : null,
+            transferBytes: resources.reduce((total, resource) => total + resource.transferSize,
+                navigation.transferSize || 0),
+            requestCount: resources.length + 1
+          });
+        };
+        setTimeout(capture, 50);
+      })
+      """;
+  private static final int[] PERCENTILES = {50, 75, 95};
+
+  private static PageLoadRecorder instance;
+  private final Gson gson = new Gson();
+  private final Queue<PageLoad> pageLoads = new ConcurrentLinkedQueue<>();
+  private final Path metricsFile;
+  private BufferedWriter writer;
+
+  private PageLoadRecorder() {
+    metricsFile = Path.of(METRICS_FOLDER, String.format("page-load-%s.jsonl",
+        LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))));
+  }
+
+  /**
+   * Returns the singleton instance of the PageLoadRecorder.
+   *
+   * @return The PageLoadRecorder instance.
+   */
+  public static synchronized PageLoadRecorder instance() {
+    if (instance == null) {
+      instance = new PageLoadRecorder();
+    }
+    return instance;
+  }
+
+  /**
+   * Checks whether page load metrics should be captured, see
+   * {@link Configuration#CAPTURE_PAGE_LOAD_METRICS}.
+   *
+   * @return true if page load metrics are captured.
+   */
+  public static boolean isEnabled() {
+    return ConfigurationManager.get().configuration()
+        .asFlag(Configuration.CAPTURE_PAGE_LOAD_METRICS, false);
+  }
+
+  /**
+   * Measures the page load metrics of the page which has just been navigated to, once it has
+   * loaded, records them and attaches them to the running scenario.
+   *
+   * @param page The page which has been navigated to.
+   * @return The measured page load, without the metrics the browser did not report.
+   */
+  public PageLoad capture(NavigateTo page) {
+    try {
+      page.getPage().waitForLoadState(LoadState.LOAD, new WaitForLoadStateOptions()
+          .setTimeout(ConfigurationManager.get().configuration()
+              .asInteger(Configuration.NAVIGATION_TIMEOUT, 20_000)));
+    } catch (TimeoutError e) {
+      // The load event never fired, so the load metrics are left out
+    }
+    Map<String, Double> metrics = new LinkedHashMap<>();
+    ((Map<?, ?>) page.getPage().evaluate(CAPTURE_SCRIPT)).forEach((name, value) -> {
+      if (value instanceof Number number) {
+        metrics.put(name.toString(), number.doubleValue());
+      }
+    });
+    var pageLoad = new PageLoad(Navigator.pageName(page),
+        ConfigurationManager.get().configuration().asRequiredString(Configuration.BROWSER),
+        page.getPage().url(), metrics);
+    pageLoads.add(pageLoad);
+    var json = gson.toJson(pageLoad);
+    write(json);
+    var scenario = ScenarioManager.get().getCurrentScenario();
+    if (scenario != null) {
+      scenario.attach(json, "application/json", String.format("%s page load", pageLoad.page()));
+    }
+    return pageLoad;
+  }
+
+  /**
+   * Appends a JSON line to the metrics file of this run.
+   *
+   * @param json The JSON line.
+   * @throws ConfigurationException if the metrics file cannot be written.
+   */
+  private synchronized void write(String json) {
+    try {
+      if (writer == null) {
+        Files.createDirectories(metricsFile.getParent());
+        writer = Files.newBufferedWriter(metricsFile, StandardCharsets.UTF_8);
+      }
+      writer.write(json);
+      writer.newLine();
+      writer.flush();
+    } catch (IOException e) {
+      throw new ConfigurationException(
+          String.format("Unable to write page load metrics to %s", metricsFile), e);
+    }
+  }
+
+  /**
+   * Retrieves every page load recorded during the run.
+   *
+   * @return The page loads.
+   */
+  public List<PageLoad> getPageLoads() {
+    return List.copyOf(pageLoads);
+  }
+
+  /**
+   * Summarises the page load metrics as percentiles per page and device.
+   *
+   * @return The percentile table, or an empty string if no page loads were recorded.
+   */
+  public String report() {
+    if (pageLoads.isEmpty()) {
+      return "";
+    }
+    Map<String, Map<String, List<Double>>> samples = new TreeMap<>();
+    pageLoads.forEach(pageLoad -> pageLoad.metrics().forEach((metric, value) -> samples
+        .computeIfAbsent(pageLoad.page() + " (" + pageLoad.device() + ")",
+            key -> new LinkedHashMap<>())
+        .computeIfAbsent(metric, key -> new ArrayList<>())
+        .add(value)));
+    var report = new StringBuilder(String.format("Page load metrics written to %s%n", metricsFile));
+    samples.forEach((page, metrics) -> {
+      report.append(String.format("%s%n%-24s | %6s | %10s | %10s | %10s%n", page,
+          "Metric", "Count", "p50", "p75", "p95"));
+      metrics.forEach((metric, values) -> {
+        values.sort(null);
+        report.append(String.format("%-24s | %6d", metric, values.size()));
+        for (int percentile : PERCENTILES) {
+          report.append(String.format(" | %10.1f", percentile(values, percentile)));
+        }
+        report.append(System.lineSeparator());
+      });
+    });
+    return report.toString();
+  }
+
+  /**
+   * Calculates a percentile using the nearest rank method.
+   *
+   * @param sorted     The sorted values.
+   * @param percentile The percentile, between 0 and 100.
+   * @return The value at the percentile.
+   */
+  public static double percentile(List<Double> sorted, int percentile) {
+    var rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+    return sorted.get(Math.max(rank, 1) - 1);
+  }
+
+  /**
+   * Closes the metrics file of this run.
+   */
+  public synchronized void close() {
+    if (writer != null) {
+      try {
+        writer.close();
+      } catch (IOException e) {
+        System.out.printf("Unable to close %s%n", metricsFile);
+      }
+      writer = null;
+    }
+  }
+}
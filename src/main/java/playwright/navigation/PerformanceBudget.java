@@ -0,0 +1,92 @@
+package playwright.navigation;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The maximum values a page may reach for its {@link PageLoad} metrics.
+ *
+ * <pre>{@code
+ * PerformanceBudget.none()
+ *     .maxLoad(Duration.ofSeconds(3))
+ *     .maxLargestContentfulPaint(Duration.ofMillis(2500))
+ *     .maxTransferBytes(2_000_000)
+ *     .maxRequestCount(80);
+ * }</pre>
+ *
+ * @param maxima The maximum value of each metric, keyed by the metric name used in PageLoad.
+ */
+public record PerformanceBudget(Map<String, Double> maxima) {
+
+  /**
+   * Creates a performance budget, copying the maxima.
+   *
+   * @param maxima The maximum value of each metric.
+   */
+  public PerformanceBudget {
+    maxima = Map.copyOf(maxima);
+  }
+
+  /**
+   * Creates a budget without any limits.
+   *
+   * @return An empty budget.
+   */
+  public static PerformanceBudget none() {
+    return new PerformanceBudget(Map.of());
+  }
+
+  /**
+   * Limits the time until the load event has finished.
+   *
+   * @param max The maximum load time.
+   * @return A new budget including the limit.
+   */
+  public PerformanceBudget maxLoad(Duration max) {
+    return max("load", max.toMillis());
+  }
+
+  /**
+   * Limits the time until the largest contentful paint.
+   *
+   * @param max The maximum time until the largest contentful paint.
+   * @return A new budget including the limit.
+   */
+  public PerformanceBudget maxLargestContentfulPaint(Duration max) {
+    return max("largestContentfulPaint", max.toMillis());
+  }
+
+  /**
+   * Limits the total bytes transferred for the document and its resources.
+   *
+   * @param max The maximum number of bytes.
+   * @return A new budget including the limit.
+   */
+  public PerformanceBudget maxTransferBytes(long max) {
+    return max("transferBytes", max);
+  }
+
+  /**
+   * Limits the number of requests made for the document and its resources.
+   *
+   * @param max The maximum number of requests.
+   * @return A new budget including the limit.
+   */
+  public PerformanceBudget maxRequestCount(int max) {
+    return max("requestCount", max);
+  }
+
+  /**
+   * Limits any metric captured in a {@link PageLoad}.
+   *
+   * @param metric The name of the metric.
+   * @param max    The maximum value.
+   * @return A new budget including the limit.
+   */
+  public PerformanceBudget max(String metric, double max) {
+    var updated = new HashMap<>(maxima);
+    updated.put(metric, max);
+    return new PerformanceBudget(updated);
+  }
+}
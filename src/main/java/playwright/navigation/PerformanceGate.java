@@ -0,0 +1,193 @@
+package playwright.navigation;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import enums.Configuration;
+import exceptions.ConfigurationException;
+import io.cucumber.java.Scenario;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import loggers.FileLogger;
+import playwright.managers.ConfigurationManager;
+import playwright.managers.ConfigurationManager.PropertyHandler;
+
+/**
+ * Compares every {@link PageLoad} against the {@link PerformanceBudget} of its page and against a
+ * rolling baseline built from previous runs.
+ *
+ * <p>The baseline file keeps the median of each metric, per page and device, for the last
+ * {@code performanceBaselineRuns} runs. A metric regresses when it exceeds the median of those runs
+ * by more than {@code performanceRegressionThresholdPercent} and by more than the noise floor of
+ * the metric, so that a small baseline, such as a layout shift of 0, does not turn every change
+ * into a regression. A metric the browser did not report is neither checked nor added to the
+ * baseline. Violations are collected for the
+ * running scenario and reported when it ends, failing the scenario or logging a warning depending
+ * on {@code performanceBudgetAction}.</p>
+ */
+@SuppressWarnings("java:S6548")
+public class PerformanceGate {
+
+  private static final String DEFAULT_BASELINE_FILE = "performance-baseline.json";
+  private static final String KEY_SEPARATOR = "|";
+  private static final double TIMING_NOISE_FLOOR_MILLIS = 50;
+  private static final Map<String, Double> NOISE_FLOORS = Map.of(
+      "cumulativeLayoutShift", 0.05,
+      "transferBytes", 10_240.0,
+      "requestCount", 2.0);
+  private static PerformanceGate instance;
+  private final Gson gson = new Gson();
+  private final Action action;
+  private final double regressionThreshold;
+  private final int baselineRuns;
+  private final Path baselineFile;
+  private final Map<String, List<Double>> baseline;
+  private final Map<String, List<Double>> runSamples = new ConcurrentHashMap<>();
+  private final ThreadLocal<List<String>> violations = ThreadLocal.withInitial(ArrayList::new);
+
+  /**
+   * What to do with a scenario which breaches a budget or regresses against the baseline.
+   */
+  public enum Action {
+    FAIL, WARN, OFF
+  }
+
+  private PerformanceGate() {
+    PropertyHandler configuration = ConfigurationManager.get().configuration();
+    action = Action.valueOf(configuration
+        .asString(Configuration.PERFORMANCE_BUDGET_ACTION, Action.WARN.name()).toUpperCase());
+    regressionThreshold = configuration
+        .asInteger(Configuration.PERFORMANCE_REGRESSION_THRESHOLD, 20) / 100.0;
+    baselineRuns = configuration.asInteger(Configuration.PERFORMANCE_BASELINE_RUNS, 10);
+    baselineFile = Path.of(configuration
+        .asString(Configuration.PERFORMANCE_BASELINE_FILE, DEFAULT_BASELINE_FILE));
+    baseline = readBaseline();
+  }
+
+  /**
+   * Returns the singleton instance of the PerformanceGate.
+   *
+   * @return The PerformanceGate instance.
+   */
+  public static synchronized PerformanceGate get() {
+    if (instance == null) {
+      instance = new PerformanceGate();
+    }
+    return instance;
+  }
+
+  /**
+   * Checks a page load against the budget and the baseline, recording any violation against the
+   * running scenario.
+   *
+   * @param pageLoad The measured page load.
+   * @param budget   The budget of the page.
+   */
+  public void check(PageLoad pageLoad, PerformanceBudget budget) {
+    if (action == Action.OFF) {
+      return;
+    }
+    pageLoad.metrics().forEach((metric, value) -> {
+      var key = String.join(KEY_SEPARATOR, pageLoad.page(), pageLoad.device(), metric);
+      runSamples.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>()))
+          .add(value);
+      var max = budget.maxima().get(metric);
+      if (max != null && value > max) {
+        violations.get().add(String.format("%s %s of %.1f exceeds the budget of %.1f",
+            pageLoad.page(), metric, value, max));
+      }
+      var previous = baseline.get(key);
+      if (previous != null && !previous.isEmpty()) {
+        var expected = median(previous);
+        var allowed = Math.max(expected * regressionThreshold,
+            NOISE_FLOORS.getOrDefault(metric, TIMING_NOISE_FLOOR_MILLIS));
+        if (value - expected > allowed) {
+          violations.get().add(expected > 0
+              ? String.format("%s %s of %.1f regressed by %.0f%% against the baseline of %.1f",
+                  pageLoad.page(), metric, value, (value / expected - 1) * 100, expected)
+              : String.format("%s %s of %.1f regressed against the baseline of 0",
+                  pageLoad.page(), metric, value));
+        }
+      }
+    });
+  }
+
+  /**
+   * Reports the violations recorded for the scenario, failing the scenario if the action is
+   * {@link Action#FAIL}.
+   *
+   * @param scenario The scenario which has finished.
+   * @throws AssertionError if the scenario breached a budget or regressed and the action is
+   *                        {@link Action#FAIL}.
+   */
+  public void endScenario(Scenario scenario) {
+    var scenarioViolations = List.copyOf(violations.get());
+    violations.remove();
+    if (scenarioViolations.isEmpty()) {
+      return;
+    }
+    var message = String.format("Performance budget violations:%n%s",
+        String.join(System.lineSeparator(), scenarioViolations));
+    scenario.log(message);
+    if (action == Action.FAIL) {
+      throw new AssertionError(message);
+    }
+    FileLogger.log().warning(message);
+  }
+
+  /**
+   * Adds the median of each metric measured during this run to the baseline file, keeping only
+   * the most recent runs.
+   *
+   * @throws ConfigurationException if the baseline file cannot be written.
+   */
+  public void saveBaseline() {
+    if (action == Action.OFF || runSamples.isEmpty()) {
+      return;
+    }
+    Map<String, List<Double>> updated = new TreeMap<>(baseline);
+    runSamples.forEach((key, samples) -> {
+      var runs = new ArrayList<>(updated.getOrDefault(key, List.of()));
+      synchronized (samples) {
+        runs.add(median(samples));
+      }
+      updated.put(key, runs.subList(Math.max(0, runs.size() - baselineRuns), runs.size()));
+    });
+    try {
+      if (baselineFile.toAbsolutePath().getParent() != null) {
+        Files.createDirectories(baselineFile.toAbsolutePath().getParent());
+      }
+      Files.writeString(baselineFile, gson.toJson(updated));
+    } catch (IOException e) {
+      throw new ConfigurationException(
+          String.format("Unable to write the performance baseline %s", baselineFile), e);
+    }
+  }
+
+  private Map<String, List<Double>> readBaseline() {
+    if (!Files.exists(baselineFile)) {
+      return Map.of();
+    }
+    try {
+      return gson.fromJson(Files.readString(baselineFile),
+          new TypeToken<Map<String, List<Double>>>() {
+          }.getType());
+    } catch (IOException e) {
+      throw new ConfigurationException(
+          String.format("Unable to read the performance baseline %s", baselineFile), e);
+    }
+  }
+
+  private static double median(List<Double> values) {
+    var sorted = values.stream().sorted().toList();
+    var middle = sorted.size() / 2;
+    return sorted.size() % 2 == 1 ? sorted.get(middle)
+        : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+  }
+}
@@ -6,12 +6,33 @@ import playwright.managers.PlaywrightManager;
 
 /**
  * A base class representing a web page.
+ *
+ * <p>Creating a page object does not touch the browser. The browser, context and page are only
+ * created on the first call to {@link #getPage()}, at which point
+ * {@link #registerLocatorHandlers(Page)} is called once for that page, so scenarios which never
+ * interact with a page never launch a browser.</p>
  */
 public class BasePage implements GetPage {
 
+  private Page registeredPage;
+
   @Override
   public Page getPage() {
-    return PlaywrightManager.get().page();
+    var page = PlaywrightManager.get().page();
+    if (page != registeredPage) {
+      registeredPage = page;
+      registerLocatorHandlers(page);
+    }
+    return page;
+  }
+
+  /**
+   * Registers the locator handlers this page object needs, such as handlers dismissing popups.
+   * Called once for each Playwright page on the first call to {@link #getPage()}.
+   *
+   * @param page The Playwright page.
+   */
+  protected void registerLocatorHandlers(Page page) {
   }
 
 }
@@ -12,14 +12,15 @@ import playwright.managers.PlaywrightManager;
 public class ExamplePage extends BasePage implements NavigateTo {
 
   /**
-   * Creates an example page and registers a locator handler to dismiss the settings popup when it
-   * appears.
+   * Registers a locator handler to dismiss the settings popup when it appears.
+   *
+   * @param page The Playwright page.
    */
-  public ExamplePage() {
-    super();
-    var settingsPopUp = getPage().getByRole(AriaRole.BUTTON,
+  @Override
+  protected void registerLocatorHandlers(Page page) {
+    var settingsPopUp = page.getByRole(AriaRole.BUTTON,
         new Page.GetByRoleOptions().setName("Accept all").setExact(true));
-    getPage().addLocatorHandler(settingsPopUp, Locator::click);
+    page.addLocatorHandler(settingsPopUp, Locator::click);
   }
 
   /**
@@ -0,0 +1,238 @@
+package playwright.waits;
+
+import com.microsoft.playwright.Frame;
+import com.microsoft.playwright.JSHandle;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Page.WaitForConditionOptions;
+import com.microsoft.playwright.Page.WaitForFunctionOptions;
+import com.microsoft.playwright.Response;
+import com.microsoft.playwright.TimeoutError;
+import exceptions.TimeLimitReachedError;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import metrics.SpanKind;
+import metrics.Timings;
+import utils.TimeLimit;
+
+/**
+ * Event driven waits which complete as soon as a page event arrives or a condition is met, bounded
+ * by a {@link TimeLimit}.
+ *
+ * <p>Each wait is registered up front and returned as a {@link CompletableFuture}, so several
+ * conditions can be awaited together. Playwright only dispatches events while the owning thread is
+ * inside a Playwright call, so the futures complete while {@link #await(CompletableFuture[])} is
+ * pumping the page's events. All listeners are removed once the await finishes.</p>
+ *
+ * <pre>{@code
+ * try (var wait = PageWait.on(getPage(), TimeLimit.of(Duration.ofSeconds(10)))) {
+ *   var search = wait.response(response -> response.url().contains("/search"));
+ *   var ready = wait.function("() => window.appReady === true");
+ *   wait.await(search, ready);
+ * }
+ * }</pre>
+ */
+public class PageWait implements AutoCloseable {
+
+  private final Page page;
+  private final TimeLimit limit;
+  private final List<Runnable> listeners = new ArrayList<>();
+  private final Map<CompletableFuture<Boolean>, BooleanSupplier> conditions =
+      new LinkedHashMap<>();
+  private final Map<CompletableFuture<JSHandle>, String> functions = new LinkedHashMap<>();
+
+  private PageWait(Page page, TimeLimit limit) {
+    this.page = page;
+    this.limit = limit;
+  }
+
+  /**
+   * Creates a set of waits on the given page.
+   *
+   * @param page  The page to wait on.
+   * @param limit The time limit bounding every await.
+   * @return A new PageWait.
+   */
+  public static PageWait on(Page page, TimeLimit limit) {
+    return new PageWait(page, limit);
+  }
+
+  /**
+   * Completes when the page fires the load event.
+   *
+   * @return A future completed with the page.
+   */
+  public CompletableFuture<Page> load() {
+    var future = new CompletableFuture<Page>();
+    Consumer<Page> handler = future::complete;
+    page.onLoad(handler);
+    listeners.add(() -> page.offLoad(handler));
+    return future;
+  }
+
+  /**
+   * Completes when the page fires the DOMContentLoaded event.
+   *
+   * @return A future completed with the page.
+   */
+  public CompletableFuture<Page> domContentLoaded() {
+    var future = new CompletableFuture<Page>();
+    Consumer<Page> handler = future::complete;
+    page.onDOMContentLoaded(handler);
+    listeners.add(() -> page.offDOMContentLoaded(handler));
+    return future;
+  }
+
+  /**
+   * Completes when the page receives a response matching the predicate.
+   *
+   * @param predicate The condition the response must meet.
+   * @return A future completed with the first matching response.
+   */
+  public CompletableFuture<Response> response(Predicate<Response> predicate) {
+    var future = new CompletableFuture<Response>();
+    Consumer<Response> handler = response -> {
+      if (!future.isDone() && predicate.test(response)) {
+        future.complete(response);
+      }
+    };
+    page.onResponse(handler);
+    listeners.add(() -> page.offResponse(handler));
+    return future;
+  }
+
+  /**
+   * Completes when a frame navigation matching the predicate occurs.
+   *
+   * @param predicate The condition the navigated frame must meet.
+   * @return A future completed with the first matching frame.
+   */
+  public CompletableFuture<Frame> frameNavigated(Predicate<Frame> predicate) {
+    var future = new CompletableFuture<Frame>();
+    Consumer<Frame> handler = frame -> {
+      if (!future.isDone() && predicate.test(frame)) {
+        future.complete(frame);
+      }
+    };
+    page.onFrameNavigated(handler);
+    listeners.add(() -> page.offFrameNavigated(handler));
+    return future;
+  }
+
+  /**
+   * Completes when the JavaScript expression evaluates to a truthy value within the page.
+   *
+   * @param expression The JavaScript expression or function to evaluate.
+   * @return A future completed with the handle of the truthy value.
+   */
+  public CompletableFuture<JSHandle> function(String expression) {
+    var future = new CompletableFuture<JSHandle>();
+    functions.put(future, expression);
+    return future;
+  }
+
+  /**
+   * Completes when the predicate returns true. The predicate is checked whenever the page
+   * dispatches an event and at least every 10 milliseconds while awaiting.
+   *
+   * @param predicate The condition to meet.
+   * @return A future completed with true once the condition is met.
+   */
+  public CompletableFuture<Boolean> condition(BooleanSupplier predicate) {
+    var future = new CompletableFuture<Boolean>();
+    conditions.put(future, predicate);
+    return future;
+  }
+
+  /**
+   * Waits until all the given futures have completed, dispatching page events in the meantime.
+   *
+   * <p>The waits run one after another on the calling thread: each {@link #function(String)} in
+   * turn, then every condition and event together. Playwright confines a page to the thread which
+   * created it and each wait blocks that thread, so they cannot be issued concurrently. Events are
+   * still dispatched during a function wait, so event futures can complete while it runs, and the
+   * later waits get whatever time remains.</p>
+   *
+   * <p>If the time limit is reached, every given future which has not completed is completed
+   * exceptionally with the {@link TimeLimitReachedError} which is thrown.</p>
+   *
+   * @param futures The futures to wait for, created by this PageWait.
+   * @throws TimeLimitReachedError if the time limit is reached before all futures complete.
+   */
+  public void await(CompletableFuture<?>... futures) throws TimeLimitReachedError {
+    var all = CompletableFuture.allOf(futures);
+    try (var ignored = Timings.get().start(SpanKind.WAIT, "page wait")) {
+      var awaited = List.of(futures);
+      for (var function : functions.entrySet()) {
+        if (awaited.contains(function.getKey()) && !function.getKey().isDone()) {
+          function.getKey().complete(page.waitForFunction(function.getValue(), null,
+              new WaitForFunctionOptions().setTimeout(remainingMillis())));
+        }
+      }
+      page.waitForCondition(() -> {
+        conditions.forEach((future, predicate) -> {
+          if (!future.isDone() && predicate.getAsBoolean()) {
+            future.complete(true);
+          }
+        });
+        return all.isDone();
+      }, new WaitForConditionOptions().setTimeout(remainingMillis()));
+      all.join();
+    } catch (TimeoutError e) {
+      throw timedOut(new TimeLimitReachedError(
+          "The specified time limit of %d seconds has been reached".formatted(
+              limit.getDuration().toSeconds()), e), futures);
+    } catch (TimeLimitReachedError e) {
+      throw timedOut(e, futures);
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    } finally {
+      close();
+    }
+  }
+
+  /**
+   * Completes every future still pending exceptionally, so that nothing waiting on one of them
+   * hangs once the await has given up.
+   *
+   * @param error   The error the await failed with.
+   * @param futures The awaited futures.
+   * @return The error, to be thrown.
+   */
+  private static TimeLimitReachedError timedOut(TimeLimitReachedError error,
+      CompletableFuture<?>... futures) {
+    for (CompletableFuture<?> future : futures) {
+      future.completeExceptionally(error);
+    }
+    return error;
+  }
+
+  /**
+   * Calculates the remaining time for Playwright, which treats a timeout of 0 as no timeout.
+   *
+   * @return The remaining time in milliseconds.
+   * @throws TimeLimitReachedError if the time limit has already been reached.
+   */
+  private double remainingMillis() throws TimeLimitReachedError {
+    limit.timeLeftElseThrow();
+    return Math.max(1, limit.getRemaining().toMillis());
+  }
+
+  /**
+   * Removes every listener registered on the page by this PageWait.
+   */
+  @Override
+  public void close() {
+    listeners.forEach(Runnable::run);
+    listeners.clear();
+  }
+}
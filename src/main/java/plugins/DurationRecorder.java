@@ -0,0 +1,58 @@
+package plugins;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import java.time.Duration;
+import metrics.SpanKind;
+import metrics.SpanListener;
+import metrics.SpanRecord;
+import metrics.Timings;
+import scheduling.DurationHistory;
+import scheduling.ScenarioKey;
+
+/**
+ * Cucumber plugin which records the duration of every passing scenario in the
+ * {@link DurationHistory}, and saves the history once the run has finished.
+ *
+ * <p>The time a scenario spent waiting for a shared resource, recorded as a
+ * {@link SpanKind#RESOURCE_WAIT} span on the scenario's thread, depends on what else was running
+ * and is left out of its duration.</p>
+ */
+public class DurationRecorder implements ConcurrentEventListener {
+
+  private final DurationHistory history = DurationHistory.load();
+  private final ThreadLocal<Long> resourceWaitNanos = ThreadLocal.withInitial(() -> 0L);
+  private final SpanListener spanListener = this::recordWait;
+
+  @Override
+  public void setEventPublisher(EventPublisher eventPublisher) {
+    eventPublisher.registerHandlerFor(TestRunStarted.class,
+        event -> Timings.get().addListener(spanListener));
+    eventPublisher.registerHandlerFor(TestCaseStarted.class, event -> resourceWaitNanos.remove());
+    eventPublisher.registerHandlerFor(TestCaseFinished.class, this::record);
+    eventPublisher.registerHandlerFor(TestRunFinished.class, event -> {
+      Timings.get().removeListener(spanListener);
+      history.save();
+    });
+  }
+
+  private void recordWait(SpanRecord span) {
+    if (span.kind() == SpanKind.RESOURCE_WAIT) {
+      resourceWaitNanos.set(resourceWaitNanos.get() + span.durationNanos());
+    }
+  }
+
+  private void record(TestCaseFinished event) {
+    if (event.getResult().getStatus() == Status.PASSED) {
+      var duration = event.getResult().getDuration().minusNanos(resourceWaitNanos.get());
+      history.record(ScenarioKey.of(event.getTestCase()),
+          duration.isNegative() ? Duration.ZERO : duration);
+    }
+    resourceWaitNanos.remove();
+  }
+}
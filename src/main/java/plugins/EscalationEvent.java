@@ -0,0 +1,30 @@
+package plugins;
+
+import java.time.Duration;
+import plugins.TestMonitor.Escalation;
+
+/**
+ * Records a single escalation step taken against a test which exceeded its time limit.
+ *
+ * @param testName   The name of the test.
+ * @param threadName The name of the thread executing the test.
+ * @param escalation The escalation step taken.
+ * @param outcome    What the step did, such as the driver process not being found.
+ * @param overdue    How long after the deadline the step was started.
+ * @param duration   How long the step took to complete.
+ */
+public record EscalationEvent(
+    String testName,
+    String threadName,
+    Escalation escalation,
+    String outcome,
+    Duration overdue,
+    Duration duration
+) {
+
+  @Override
+  public String toString() {
+    return String.format("%s [%s] %s after %d ms overdue, %s in %d ms",
+        testName, threadName, escalation, overdue.toMillis(), outcome, duration.toMillis());
+  }
+}
@@ -0,0 +1,72 @@
+package plugins;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import metrics.events.ScenarioEvent;
+import metrics.events.StepEvent;
+
+/**
+ * Cucumber plugin which emits Java Flight Recorder events for every scenario, step and hook.
+ *
+ * <p>Events are only committed while a recording is running, see
+ * {@link metrics.events.FlightRecording}, and cost next to nothing otherwise.</p>
+ */
+public class FlightRecorderEvents implements ConcurrentEventListener {
+
+  private final Map<TestCase, ScenarioEvent> scenarios = new ConcurrentHashMap<>();
+  private final Map<TestCase, StepEvent> steps = new ConcurrentHashMap<>();
+
+  @Override
+  public void setEventPublisher(EventPublisher eventPublisher) {
+    eventPublisher.registerHandlerFor(TestCaseStarted.class, this::startScenario);
+    eventPublisher.registerHandlerFor(TestStepStarted.class, this::startStep);
+    eventPublisher.registerHandlerFor(TestStepFinished.class, this::finishStep);
+    eventPublisher.registerHandlerFor(TestCaseFinished.class, this::finishScenario);
+  }
+
+  private void startScenario(TestCaseStarted event) {
+    var scenario = new ScenarioEvent();
+    scenario.scenario = event.getTestCase().getName();
+    scenario.uri = String.format("%s:%d", event.getTestCase().getUri(),
+        event.getTestCase().getLocation().getLine());
+    scenario.begin();
+    scenarios.put(event.getTestCase(), scenario);
+  }
+
+  private void startStep(TestStepStarted event) {
+    var step = new StepEvent();
+    step.scenario = event.getTestCase().getName();
+    if (event.getTestStep() instanceof PickleStepTestStep pickleStep) {
+      step.step = pickleStep.getStep().getKeyword() + pickleStep.getStep().getText();
+    } else if (event.getTestStep() instanceof HookTestStep hook) {
+      step.step = String.format("%s hook %s", hook.getHookType(), hook.getCodeLocation());
+    }
+    step.begin();
+    steps.put(event.getTestCase(), step);
+  }
+
+  private void finishStep(TestStepFinished event) {
+    var step = steps.remove(event.getTestCase());
+    if (step != null) {
+      step.status = event.getResult().getStatus().name();
+      step.commit();
+    }
+  }
+
+  private void finishScenario(TestCaseFinished event) {
+    var scenario = scenarios.remove(event.getTestCase());
+    if (scenario != null) {
+      scenario.status = event.getResult().getStatus().name();
+      scenario.commit();
+    }
+  }
+}
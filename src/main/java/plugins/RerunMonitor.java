@@ -2,67 +2,50 @@ package plugins;
 
 import io.cucumber.plugin.ConcurrentEventListener;
 import io.cucumber.plugin.event.EventPublisher;
-import io.cucumber.plugin.event.TestCase;
 import io.cucumber.plugin.event.TestCaseFinished;
 import io.cucumber.plugin.event.TestRunFinished;
-import java.io.BufferedWriter;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
-import java.util.ArrayList;
-import java.util.List;
+import io.cucumber.plugin.event.TestRunStarted;
+import scheduling.FailureJournal;
+import scheduling.InRunRetries;
+import scheduling.ScenarioKey;
 
 /**
- * A Cucumber plugin that monitors test execution and records failed test cases. The failed test
- * cases are written to a file for later re-execution.
+ * A Cucumber plugin that monitors test execution and records failed test cases. Each failed test
+ * case is appended to the {@link FailureJournal} as soon as it finishes, so that it can be
+ * re-executed while the run continues or after it has finished.
  */
 public class RerunMonitor implements ConcurrentEventListener {
 
-  private final List<TestCase> failedTestCaseList = new ArrayList<>();
-
   /**
-   * Registers event handlers for test case finished and test run finished events.
+   * Registers event handlers for test run started, test case finished and test run finished events.
    *
    * @param eventPublisher the event publisher
    */
   @Override
   public void setEventPublisher(EventPublisher eventPublisher) {
+    eventPublisher.registerHandlerFor(TestRunStarted.class, event -> FailureJournal.get().start());
     eventPublisher.registerHandlerFor(TestCaseFinished.class, this::testCaseFinishedHandler);
-    eventPublisher.registerHandlerFor(TestRunFinished.class, this::testRunFinishedHandler);
+    eventPublisher.registerHandlerFor(TestRunFinished.class,
+        event -> FailureJournal.get().finish());
   }
 
   /**
-   * Handles the TestCaseFinished event. Adds the test case to the failed test case list if the test
-   * did not pass.
+   * Handles the TestCaseFinished event. Appends the test case to the journal if the test did not
+   * pass, unless it is about to be retried in-run by {@link InRunRetries}, in which case it is
+   * deferred to the retry and only journaled if the retries fail too, or cannot be run.
    *
    * @param testCaseFinished the event indicating a test case has finished
    */
   private void testCaseFinishedHandler(TestCaseFinished testCaseFinished) {
-    if (!testCaseFinished.getResult().getStatus().isOk()) {
-      failedTestCaseList.add(testCaseFinished.getTestCase());
+    var result = testCaseFinished.getResult();
+    if (result.getStatus().isOk()) {
+      return;
     }
-  }
-
-  /**
-   * Handles the TestRunFinished event. Writes the list of failed test cases to a file.
-   *
-   * @param testRunFinished the event indicating the test run has finished
-   */
-  private void testRunFinishedHandler(TestRunFinished testRunFinished) {
-    Path filePath = Paths.get("target/failedScenarios.txt");
-    try {
-      Files.deleteIfExists(filePath);
-      try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardOpenOption.CREATE)) {
-        for (TestCase testCase : failedTestCaseList) {
-          String formattedFeature = String.format("%s?line=%d%n",
-              testCase.getUri().toString().replace(":", ":/"), testCase.getLocation().getLine());
-          writer.write(formattedFeature);
-        }
-      }
-    } catch (IOException e) {
-      System.out.println("Error writing to the file: " + e.getMessage());
+    var key = ScenarioKey.of(testCaseFinished.getTestCase());
+    if (result.getError() != null && InRunRetries.get().shouldRetry(1, result.getError())) {
+      InRunRetries.get().defer(key);
+      return;
     }
+    FailureJournal.get().append(key);
   }
 }
@@ -0,0 +1,39 @@
+package plugins;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestStepStarted;
+import loggers.LogContext;
+import scheduling.ScenarioKey;
+
+/**
+ * Cucumber plugin which records the scenario and step each test thread is running in the
+ * {@link LogContext}, so that structured log records can be attributed to them.
+ *
+ * <p>Cucumber publishes test case and step events on the thread executing the scenario, so the
+ * context is held per thread.</p>
+ */
+public class StepLogContext implements ConcurrentEventListener {
+
+  @Override
+  public void setEventPublisher(EventPublisher eventPublisher) {
+    eventPublisher.registerHandlerFor(TestCaseStarted.class, event -> LogContext.startScenario(
+        event.getTestCase().getId().toString(), ScenarioKey.of(event.getTestCase()),
+        event.getTestCase().getName()));
+    eventPublisher.registerHandlerFor(TestStepStarted.class, this::startStep);
+    eventPublisher.registerHandlerFor(TestCaseFinished.class, event -> LogContext.endScenario());
+  }
+
+  private void startStep(TestStepStarted event) {
+    if (event.getTestStep() instanceof PickleStepTestStep step) {
+      LogContext.startStep(step.getStep().getKeyword() + step.getStep().getText());
+    } else if (event.getTestStep() instanceof HookTestStep hook) {
+      LogContext.startStep(String.format("%s hook %s", hook.getHookType(),
+          hook.getCodeLocation()));
+    }
+  }
+}
@@ -0,0 +1,119 @@
+package plugins;
+
+import enums.Configuration;
+import exceptions.ConfigurationException;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCase;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import playwright.managers.ConfigurationManager;
+
+/**
+ * Resolves the time limit for an individual test step.
+ *
+ * <p>The limit is resolved in the following order:</p>
+ * <ol>
+ *   <li>A {@code @StepTimeout_<seconds>} tag on the scenario or feature.</li>
+ *   <li>The first entry of {@code stepTimeoutOverrides} whose pattern is found in the step text.
+ *   Entries take the form {@code <regex>=<seconds>} and are separated by {@code ;}.</li>
+ *   <li>The default {@code individualStepTimeoutInSeconds}.</li>
+ * </ol>
+ *
+ * <p>If none of the above apply, the step is only bound by the scenario time limit. A tag or
+ * override whose seconds are not a positive whole number is rejected with a
+ * {@link ConfigurationException} naming it.</p>
+ */
+public class StepTimeouts {
+
+  private static final String TAG_PREFIX = "@StepTimeout_";
+  private static final String OVERRIDE_SEPARATOR = ";";
+  private static final String VALUE_SEPARATOR = "=";
+
+  private final Duration defaultTimeout;
+  private final Map<Pattern, Duration> overrides = new LinkedHashMap<>();
+
+  /**
+   * Creates the step timeouts from configuration.
+   *
+   * @throws ConfigurationException if an override is not in the form {@code <regex>=<seconds>}
+   *                                with a positive number of seconds.
+   */
+  public StepTimeouts() {
+    var configuration = ConfigurationManager.get().configuration();
+    defaultTimeout = Optional.ofNullable(configuration.asInteger(Configuration.STEP_TIMEOUT))
+        .filter(seconds -> seconds > 0)
+        .map(Duration::ofSeconds)
+        .orElse(null);
+    var configuredOverrides = configuration.asString(Configuration.STEP_TIMEOUT_OVERRIDES, "");
+    for (String override : configuredOverrides.split(OVERRIDE_SEPARATOR)) {
+      if (override.isBlank()) {
+        continue;
+      }
+      var separator = override.lastIndexOf(VALUE_SEPARATOR);
+      var invalid = String.format(
+          "Invalid step timeout override '%s', expected <regex>=<seconds>", override);
+      if (separator < 1) {
+        throw new ConfigurationException("%s", invalid);
+      }
+      try {
+        overrides.put(Pattern.compile(override.substring(0, separator).trim()),
+            seconds(override.substring(separator + 1), invalid));
+      } catch (RuntimeException e) {
+        throw new ConfigurationException(invalid, e);
+      }
+    }
+  }
+
+  /**
+   * Resolves the time limit set by a {@code @StepTimeout_<seconds>} tag.
+   *
+   * @param tags The tags of the scenario, including those of its feature.
+   * @return The time limit of the first such tag, or empty if there is none.
+   * @throws ConfigurationException if the tag does not end in a positive number of seconds.
+   */
+  public static Optional<Duration> forTags(Collection<String> tags) {
+    return tags.stream()
+        .filter(tag -> tag.startsWith(TAG_PREFIX))
+        .map(tag -> seconds(tag.substring(TAG_PREFIX.length()), String.format(
+            "Invalid step timeout tag '%s', expected %s<seconds>", tag, TAG_PREFIX)))
+        .findFirst();
+  }
+
+  private static Duration seconds(String value, String invalid) {
+    long seconds;
+    try {
+      seconds = Long.parseLong(value.trim());
+    } catch (NumberFormatException e) {
+      throw new ConfigurationException(invalid, e);
+    }
+    if (seconds < 1) {
+      throw new ConfigurationException("%s", invalid);
+    }
+    return Duration.ofSeconds(seconds);
+  }
+
+  /**
+   * Resolves the time limit for the given step.
+   *
+   * @param testCase The test case the step belongs to.
+   * @param step     The step.
+   * @return The time limit, or empty if the step has no limit of its own.
+   * @throws ConfigurationException if the scenario has an invalid {@code @StepTimeout_} tag.
+   */
+  public Optional<Duration> forStep(TestCase testCase, PickleStepTestStep step) {
+    var tagTimeout = forTags(testCase.getTags());
+    if (tagTimeout.isPresent()) {
+      return tagTimeout;
+    }
+    var text = step.getStep().getText();
+    return overrides.entrySet().stream()
+        .filter(override -> override.getKey().matcher(text).find())
+        .map(Map.Entry::getValue)
+        .findFirst()
+        .or(() -> Optional.ofNullable(defaultTimeout));
+  }
+}
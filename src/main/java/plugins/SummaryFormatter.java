@@ -7,6 +7,7 @@ import io.cucumber.plugin.event.TestCaseFinished;
 import io.cucumber.plugin.event.TestCaseStarted;
 import java.util.ArrayList;
 import java.util.List;
+import utils.AdaptiveParallelism;
 
 /**
  * Outputs running totals to console during test execution.
@@ -45,6 +46,10 @@ public class SummaryFormatter implements ConcurrentEventListener {
   }
 
   private void printTable() {
+    AdaptiveParallelism.decision().ifPresent(decision -> {
+      System.out.printf(NEW_LINE);
+      System.out.printf("Parallelism: %s%n", decision);
+    });
     System.out.printf(NEW_LINE);
     System.out.printf("              Running Test Cases (%d)         %n", runningTestCases.size());
     System.out.printf(NEW_LINE);
@@ -1,73 +1,130 @@
 package plugins;
 
 import enums.Configuration;
-import exceptions.TimeLimitReachedError;
 import io.cucumber.plugin.event.TestCase;
 import java.time.Duration;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
 import playwright.managers.ConfigurationManager;
-import utils.TimeLimit;
+import playwright.managers.PlaywrightManager;
 
 /**
  * The TestMonitor class is responsible for monitoring the execution of individual test cases within
  * the Cucumber framework, enforcing a time limit on their execution.
  *
- * <p>This class implements the Runnable interface, allowing it to run in a separate thread
- * dedicated to monitoring the test case's execution time. If the test exceeds the specified time
- * limit, the monitor attempts to interrupt the test thread.</p>
+ * <p>Each TestMonitor holds the deadline of a single test and is scheduled on the shared
+ * {@link TestWatchdog}. If the test exceeds the specified time limit, the monitor escalates
+ * through the {@link Escalation} steps until the test thread is released: first interrupting the
+ * thread, which also aborts a Playwright call waiting on its driver, then closing the worker's
+ * browser context and pages, and finally killing the processes of the worker's Playwright driver
+ * and browsers. After a kill the worker closes what is left of its session itself and launches a
+ * fresh browser for its next scenario.</p>
  *
  * <p>Key features include:</p>
  * <ul>
  *   <li>Dynamic time limit configuration based on settings from the ConfigurationManager.</li>
- *   <li>Graceful handling of time limit breaches by attempting to interrupt the test thread.</li>
+ *   <li>Escalating handling of time limit breaches, recording each step as an
+ *   {@link EscalationEvent}.</li>
  *   <li>Shutdown flag to safely terminate monitoring when the test completes or is canceled.</li>
  * </ul>
  */
-public class TestMonitor implements Runnable {
+public class TestMonitor implements Delayed {
 
-  private final TimeLimit limit = TimeLimit.of(Duration.ofMinutes(
-      ConfigurationManager.get().configuration()
-          .asRequiredInteger(Configuration.INDIVIDUAL_TEST_TIMEOUT))
-  );
+  private static final Duration ESCALATION_INTERVAL = Duration.ofSeconds(5);
 
+  private final Duration limit;
   private final Thread testThread;
-  private final TestCase test;
-  private boolean shutdown = false;
+  private final String name;
+  private volatile boolean shutdown = false;
+  private final long limitReached;
+  private long deadline;
+  private int escalation = 0;
 
-  private TestMonitor(Thread testThread, TestCase test) {
+  private TestMonitor(Thread testThread, String name, Duration limit) {
     this.testThread = testThread;
-    this.test = test;
+    this.name = name;
+    this.limit = limit;
+    this.limitReached = System.nanoTime() + limit.toNanos();
+    this.deadline = limitReached;
   }
 
   /**
-   * Factory method to create a new TestMonitor instance for a given test case.
+   * Factory method to create a new TestMonitor instance for a given test case, limited to
+   * {@code individualTestTimeoutInMinutes}.
    *
    * @param testThread the thread executing the test case
    * @param test       the TestCase instance to monitor
    * @return a new TestMonitor instance
    */
   public static TestMonitor forTest(Thread testThread, TestCase test) {
-    return new TestMonitor(testThread, test);
+    return forTest(testThread, test, Duration.ofMinutes(ConfigurationManager.get().configuration()
+        .asRequiredInteger(Configuration.INDIVIDUAL_TEST_TIMEOUT)));
   }
 
-  @Override
-  public void run() {
-    try {
-      limit.doWhileFalse(() -> {
-        if (!shutdown) {
-          limit.wait(Duration.ofSeconds(10));
-        }
-        return shutdown;
-      });
-    } catch (TimeLimitReachedError limitReachedError) {
+  /**
+   * Factory method to create a new TestMonitor instance for a given test case.
+   *
+   * @param testThread the thread executing the test case
+   * @param test       the TestCase instance to monitor
+   * @param limit      the time limit for the test case
+   * @return a new TestMonitor instance
+   */
+  public static TestMonitor forTest(Thread testThread, TestCase test, Duration limit) {
+    return new TestMonitor(testThread, test.getName(), limit);
+  }
+
+  /**
+   * Factory method to create a new TestMonitor instance for a single step of a test case.
+   *
+   * @param testThread the thread executing the test case
+   * @param test       the TestCase the step belongs to
+   * @param step       the text of the step to monitor
+   * @param limit      the time limit for the step
+   * @return a new TestMonitor instance
+   */
+  public static TestMonitor forStep(Thread testThread, TestCase test, String step,
+      Duration limit) {
+    return new TestMonitor(testThread, String.format("%s (step '%s')", test.getName(), step),
+        limit);
+  }
+
+  /**
+   * Called by the {@link TestWatchdog} once the deadline has passed. Starts the next escalation
+   * step and re-arms the deadline so the following step is taken if the test has still not
+   * stopped.
+   *
+   * <p>Steps run on their own virtual thread so that a step which blocks, such as waiting for the
+   * killed processes to exit, cannot stall the watchdog.</p>
+   *
+   * @return true if the monitor should be watched again.
+   */
+  boolean expire() {
+    var step = Escalation.values()[escalation++];
+    if (step == Escalation.INTERRUPT) {
       System.out.printf(
           "%s has exceeded the allowed runtime of %s seconds, "
               + "attempting to interrupt test thread: %s%n",
-          test.getName(), limit.getDuration().toSeconds(), testThread);
-      while (!shutdown && !testThread.isInterrupted()) {
-        testThread.interrupt();
-        TimeLimit.of(Duration.ofSeconds(5)).waitFullDuration();
-      }
+          name, limit.toSeconds(), testThread);
     }
+    var overdue = Duration.ofNanos(System.nanoTime() - limitReached);
+    Thread.ofVirtual().name("escalation-" + testThread.getName()).start(() -> {
+      var start = System.nanoTime();
+      var outcome = step.apply(testThread);
+      TestWatchdog.get().record(new EscalationEvent(name, testThread.getName(), step, outcome,
+          overdue, Duration.ofNanos(System.nanoTime() - start)));
+    });
+    deadline = System.nanoTime() + ESCALATION_INTERVAL.toNanos();
+    return !shutdown && escalation < Escalation.values().length;
+  }
+
+  @Override
+  public long getDelay(TimeUnit unit) {
+    return unit.convert(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public int compareTo(Delayed other) {
+    return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
   }
 
   /**
@@ -76,4 +133,46 @@ public class TestMonitor implements Runnable {
   public void setShutdownFlag() {
     this.shutdown = true;
   }
+
+  /**
+   * Checks whether monitoring has been stopped.
+   *
+   * @return true if the test has finished or monitoring was cancelled.
+   */
+  public boolean isShutdown() {
+    return shutdown;
+  }
+
+  /**
+   * The steps taken, in order, against a test thread which does not stop after its time limit.
+   */
+  public enum Escalation {
+    INTERRUPT {
+      @Override
+      String apply(Thread testThread) {
+        testThread.interrupt();
+        return "thread interrupted";
+      }
+    },
+    CLOSE_CONTEXT {
+      @Override
+      String apply(Thread testThread) {
+        return PlaywrightManager.get().closeContext(testThread);
+      }
+    },
+    KILL_BROWSER {
+      @Override
+      String apply(Thread testThread) {
+        return PlaywrightManager.get().killBrowser(testThread);
+      }
+    };
+
+    /**
+     * Takes the step against a test thread.
+     *
+     * @param testThread the thread executing the test
+     * @return what was done, recorded in the {@link EscalationEvent}
+     */
+    abstract String apply(Thread testThread);
+  }
 }
@@ -2,15 +2,19 @@ package plugins;
 
 import io.cucumber.plugin.ConcurrentEventListener;
 import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.HookType;
+import io.cucumber.plugin.event.PickleStepTestStep;
 import io.cucumber.plugin.event.TestCase;
 import io.cucumber.plugin.event.TestCaseFinished;
 import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestStepFinished;
 import io.cucumber.plugin.event.TestStepStarted;
-import java.util.HashMap;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 
 /**
  * The TestMonitoring class is a Cucumber plugin that monitors the execution of test cases and
@@ -23,7 +27,7 @@ import java.util.concurrent.Executors;
  *
  * <p>Key features include:</p>
  * <ul>
- *   <li>Utilizes a thread pool to manage concurrent test monitors.</li>
+ *   <li>Uses a single {@link TestWatchdog} thread to track the deadlines of all running tests.</li>
  *   <li>Registers event handlers for test case lifecycle events.</li>
  *   <li>Monitors test steps and terminates monitoring if specific conditions are met.</li>
  * </ul>
@@ -31,55 +35,91 @@ import java.util.concurrent.Executors;
  * <p>Event Handling:</p>
  * <ul>
  *   <li><strong>TestCaseStarted:</strong>
- *   Initiates monitoring for the test case and starts a new thread.</li>
+ *   Initiates monitoring for the test case and registers its deadline with the watchdog.</li>
  *   <li><strong>TestStepStarted:</strong>
- *   Monitors individual test steps and can terminate monitoring based on specific conditions.</li>
+ *   Monitors individual test steps against their own time limit, see {@link StepTimeouts}, and
+ *   terminates monitoring once the first After hook starts, so that tidy up is not
+ *   interrupted. Before hooks, including those which wait for a shared resource, remain within the
+ *   test's time limit.</li>
+ *   <li><strong>TestStepFinished:</strong>
+ *   Cancels monitoring of the finished step.</li>
  *   <li><strong>TestCaseFinished:</strong>
- *   Cleans up and terminates the monitoring thread once the test case execution is complete.</li>
+ *   Cancels monitoring once the test case execution is complete.</li>
  * </ul>
  *
  * <p>Thread Management:</p>
  * <ul>
- *   <li>Uses an ExecutorService to handle multiple test monitors concurrently.</li>
- *   <li>Ensures that monitoring threads are properly terminated to free up resources.</li>
+ *   <li>Only one watchdog thread exists regardless of the number of parallel tests, and it wakes
+ *   exactly when the earliest deadline expires.</li>
+ *   <li>Monitors are tracked in a concurrent map as events arrive from multiple Cucumber
+ *   threads.</li>
  * </ul>
  */
 public class TestMonitoring implements ConcurrentEventListener {
 
-  private final ExecutorService executor = Executors.newCachedThreadPool();
-  private final Map<TestCase, TestMonitor> testMonitors = new HashMap<>();
+  private final TestWatchdog watchdog = TestWatchdog.get();
+  private final StepTimeouts stepTimeouts = new StepTimeouts();
+  private final BiFunction<Thread, TestCase, TestMonitor> testMonitorFactory;
+  private final Map<TestCase, TestMonitor> testMonitors = new ConcurrentHashMap<>();
+  private final Map<TestCase, TestMonitor> stepMonitors = new ConcurrentHashMap<>();
+
+  /**
+   * Creates the plugin, limiting each test to {@code individualTestTimeoutInMinutes}.
+   */
+  public TestMonitoring() {
+    testMonitorFactory = TestMonitor::forTest;
+  }
+
+  /**
+   * Creates the plugin with a fixed time limit for each test.
+   *
+   * @param testLimit the time limit for each test
+   */
+  TestMonitoring(Duration testLimit) {
+    testMonitorFactory = (thread, test) -> TestMonitor.forTest(thread, test, testLimit);
+  }
 
   @Override
   public void setEventPublisher(EventPublisher eventPublisher) {
     eventPublisher.registerHandlerFor(TestCaseStarted.class, this::registerTestMonitor);
     eventPublisher.registerHandlerFor(TestStepStarted.class, this::monitorTestStep);
+    eventPublisher.registerHandlerFor(TestStepFinished.class, this::handleStepFinish);
     eventPublisher.registerHandlerFor(TestCaseFinished.class, this::handleTestFinish);
   }
 
   private void registerTestMonitor(TestCaseStarted testCaseStarted) {
-    var testMonitor = TestMonitor.forTest(Thread.currentThread(), testCaseStarted.getTestCase());
+    var testMonitor = testMonitorFactory.apply(Thread.currentThread(),
+        testCaseStarted.getTestCase());
     testMonitors.put(testCaseStarted.getTestCase(), testMonitor);
-    executor.submit(testMonitor);
+    watchdog.watch(testMonitor);
   }
 
   private void monitorTestStep(TestStepStarted testStepStarted) {
-    var codeLocation = testStepStarted.getTestStep().getCodeLocation();
-    if (codeLocation == null
-        || codeLocation.startsWith("stepdefinitions.Hooks.") && !codeLocation.startsWith(
-        "stepdefinitions.Hooks.start")) {
+    if (testStepStarted.getTestStep() instanceof HookTestStep hook
+        && hook.getHookType() == HookType.AFTER) {
       terminateMonitoringThread(testStepStarted.getTestCase());
+    } else if (testStepStarted.getTestStep() instanceof PickleStepTestStep step) {
+      var testCase = testStepStarted.getTestCase();
+      stepTimeouts.forStep(testCase, step).ifPresent(limit -> {
+        var stepMonitor = TestMonitor.forStep(
+            Thread.currentThread(), testCase, step.getStep().getText(), limit);
+        stepMonitors.put(testCase, stepMonitor);
+        watchdog.watch(stepMonitor);
+      });
     }
   }
 
+  private void handleStepFinish(TestStepFinished testStepFinished) {
+    Optional.ofNullable(stepMonitors.remove(testStepFinished.getTestCase()))
+        .ifPresent(TestMonitor::setShutdownFlag);
+  }
+
   private void handleTestFinish(TestCaseFinished testCaseFinished) {
     terminateMonitoringThread(testCaseFinished.getTestCase());
   }
 
   private void terminateMonitoringThread(TestCase testCase) {
-    var testCaseMonitor = testMonitors.get(testCase);
-    if (Optional.ofNullable(testCaseMonitor).isPresent()) {
-      testCaseMonitor.setShutdownFlag();
-      testMonitors.remove(testCase);
-    }
+    Optional.ofNullable(testMonitors.remove(testCase)).ifPresent(TestMonitor::setShutdownFlag);
+    Optional.ofNullable(stepMonitors.remove(testCase)).ifPresent(TestMonitor::setShutdownFlag);
   }
 }
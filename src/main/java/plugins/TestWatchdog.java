@@ -0,0 +1,79 @@
+package plugins;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.DelayQueue;
+
+/**
+ * A single watchdog thread which tracks the deadline of every running test.
+ *
+ * <p>Monitors are held in a {@link DelayQueue} ordered by deadline, so the watchdog thread sleeps
+ * until the earliest deadline and wakes exactly when it expires. Cancelling a monitor only sets its
+ * shutdown flag; cancelled monitors are discarded when they reach the head of the queue rather than
+ * being searched for and removed.</p>
+ */
+public class TestWatchdog {
+
+  private static TestWatchdog instance;
+  private final DelayQueue<TestMonitor> deadlines = new DelayQueue<>();
+  private final Queue<EscalationEvent> escalationEvents = new ConcurrentLinkedQueue<>();
+
+  private TestWatchdog() {
+    Thread.ofPlatform().name("test-watchdog").daemon().start(this::run);
+  }
+
+  /**
+   * Retrieves the singleton instance of the TestWatchdog, starting the watchdog thread on first
+   * use.
+   *
+   * @return The TestWatchdog instance.
+   */
+  public static synchronized TestWatchdog get() {
+    if (instance == null) {
+      instance = new TestWatchdog();
+    }
+    return instance;
+  }
+
+  /**
+   * Starts watching the given monitor until its deadline expires or it is shut down.
+   *
+   * @param monitor The monitor to watch.
+   */
+  public void watch(TestMonitor monitor) {
+    deadlines.add(monitor);
+  }
+
+  /**
+   * Records an escalation step taken against a test which exceeded its time limit.
+   *
+   * @param event The escalation event.
+   */
+  public void record(EscalationEvent event) {
+    escalationEvents.add(event);
+    System.out.printf("Escalation: %s%n", event);
+  }
+
+  /**
+   * Retrieves every escalation step taken during the run, in the order they completed.
+   *
+   * @return The escalation events.
+   */
+  public List<EscalationEvent> getEscalationEvents() {
+    return List.copyOf(escalationEvents);
+  }
+
+  private void run() {
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        var monitor = deadlines.take();
+        if (!monitor.isShutdown() && monitor.expire()) {
+          deadlines.add(monitor);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
@@ -0,0 +1,213 @@
+package plugins;
+
+import com.google.gson.Gson;
+import exceptions.ConfigurationException;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import metrics.SpanKind;
+import metrics.SpanListener;
+import metrics.SpanRecord;
+import metrics.Timings;
+import scheduling.ResourceLocks;
+
+/**
+ * Cucumber plugin which records when each worker thread ran every scenario, step, hook, browser
+ * launch, navigation and wait, and writes them as a Chrome trace-event file to
+ * {@code target/timeline.json} once the run has finished. The file can be opened in
+ * <a href="https://ui.perfetto.dev">Perfetto</a> or {@code chrome://tracing}.
+ *
+ * <p>The time each worker spent idle and the parallel efficiency of the run, the share of the
+ * available worker time spent running scenarios, are printed and included in the file, so that the
+ * parallel configuration can be tuned from data. The limit of every {@link ResourceLocks} resource
+ * and the time scenarios waited for it are included alongside, and each wait appears on the
+ * worker's track.</p>
+ */
+public class TimelineExport implements ConcurrentEventListener {
+
+  private static final Path EXPORT = Path.of("target", "timeline.json");
+  private final Queue<Map<String, Object>> traceEvents = new ConcurrentLinkedQueue<>();
+  private final Map<String, Integer> threadIds = new ConcurrentHashMap<>();
+  private final Map<TestCase, Interval> scenarios = new ConcurrentHashMap<>();
+  private final Map<TestCase, Interval> steps = new ConcurrentHashMap<>();
+  private final Queue<Interval> completedScenarios = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger nextThreadId = new AtomicInteger(1);
+  private final SpanListener spanListener = this::recordSpan;
+  private long runStartNanos = System.nanoTime();
+
+  private record Interval(String name, String thread, long startNanos, long endNanos) {
+
+    Interval end() {
+      return new Interval(name, thread, startNanos, System.nanoTime());
+    }
+  }
+
+  @Override
+  public void setEventPublisher(EventPublisher eventPublisher) {
+    eventPublisher.registerHandlerFor(TestRunStarted.class, event -> start());
+    eventPublisher.registerHandlerFor(TestCaseStarted.class, event -> scenarios.put(
+        event.getTestCase(), begin(event.getTestCase().getName())));
+    eventPublisher.registerHandlerFor(TestStepStarted.class, this::startStep);
+    eventPublisher.registerHandlerFor(TestStepFinished.class, this::finishStep);
+    eventPublisher.registerHandlerFor(TestCaseFinished.class, this::finishScenario);
+    eventPublisher.registerHandlerFor(TestRunFinished.class, event -> export());
+  }
+
+  private void start() {
+    runStartNanos = System.nanoTime();
+    Timings.get().addListener(spanListener);
+  }
+
+  private Interval begin(String name) {
+    return new Interval(name, Thread.currentThread().getName(), System.nanoTime(), 0);
+  }
+
+  private void startStep(TestStepStarted event) {
+    if (event.getTestStep() instanceof PickleStepTestStep step) {
+      steps.put(event.getTestCase(), begin(step.getStep().getKeyword() + step.getStep().getText()));
+    } else if (event.getTestStep() instanceof HookTestStep hook) {
+      steps.put(event.getTestCase(), begin(String.format("%s hook", hook.getHookType())));
+    }
+  }
+
+  private void finishStep(TestStepFinished event) {
+    var step = steps.remove(event.getTestCase());
+    if (step != null) {
+      add(step.end(), event.getTestStep() instanceof HookTestStep ? "hook" : "step",
+          Map.of("status", event.getResult().getStatus().name()));
+    }
+  }
+
+  private void finishScenario(TestCaseFinished event) {
+    var scenario = scenarios.remove(event.getTestCase());
+    if (scenario != null) {
+      var completed = scenario.end();
+      completedScenarios.add(completed);
+      add(completed, "scenario", Map.of(
+          "status", event.getResult().getStatus().name(),
+          "uri", String.format("%s:%d", event.getTestCase().getUri(),
+              event.getTestCase().getLocation().getLine())));
+    }
+  }
+
+  private void recordSpan(SpanRecord span) {
+    if (span.kind() == SpanKind.HOOK) {
+      return;
+    }
+    var args = new LinkedHashMap<String, Object>();
+    if (span.page() != null) {
+      args.put("page", span.page());
+    }
+    args.put("browser", span.browser());
+    add(new Interval(span.kind() == SpanKind.ACTION ? span.name()
+            : String.format("%s %s", span.kind().name().toLowerCase(), span.name()), span.thread(),
+            span.startNanos(), span.startNanos() + span.durationNanos()),
+        span.kind().name().toLowerCase(), args);
+  }
+
+  private void add(Interval interval, String category, Map<String, Object> args) {
+    var traceEvent = new LinkedHashMap<String, Object>();
+    traceEvent.put("name", interval.name());
+    traceEvent.put("cat", category);
+    traceEvent.put("ph", "X");
+    traceEvent.put("pid", 1);
+    traceEvent.put("tid", threadId(interval.thread()));
+    traceEvent.put("ts", micros(interval.startNanos() - runStartNanos));
+    traceEvent.put("dur", micros(interval.endNanos() - interval.startNanos()));
+    traceEvent.put("args", args);
+    traceEvents.add(traceEvent);
+  }
+
+  private int threadId(String thread) {
+    return threadIds.computeIfAbsent(thread, name -> nextThreadId.getAndIncrement());
+  }
+
+  private static double micros(long nanos) {
+    return nanos / 1_000.0;
+  }
+
+  private void export() {
+    Timings.get().removeListener(spanListener);
+    List<Map<String, Object>> events = new ArrayList<>();
+    threadIds.forEach((thread, id) -> events.add(Map.of("name", "thread_name", "ph", "M",
+        "pid", 1, "tid", id, "args", Map.of("name", thread))));
+    events.addAll(traceEvents);
+    var trace = new LinkedHashMap<String, Object>();
+    trace.put("traceEvents", events);
+    trace.put("displayTimeUnit", "ms");
+    var utilisation = utilisation(System.nanoTime());
+    var otherData = new LinkedHashMap<>(utilisation);
+    otherData.put("resources", ResourceLocks.get().report());
+    trace.put("otherData", otherData);
+    try {
+      Files.createDirectories(EXPORT.getParent());
+      Files.writeString(EXPORT, new Gson().toJson(trace));
+    } catch (IOException e) {
+      throw new ConfigurationException(String.format("Unable to write %s", EXPORT), e);
+    }
+    System.out.printf("Timeline written to %s: %d workers, wall time %.1f s, idle %.1f s, "
+            + "tail %.1f s, parallel efficiency %.1f%%%n", EXPORT, utilisation.get("workers"),
+        (double) utilisation.get("wallSeconds"), (double) utilisation.get("idleSeconds"),
+        (double) utilisation.get("tailSeconds"), (double) utilisation.get("parallelEfficiency"));
+    ResourceLocks.get().report().forEach((name, resource) -> System.out.printf(
+        "Resource %s: limit %s, %s scenarios, waited %.1f s in total, %.1f s at most%n", name,
+        resource.get("limit"), resource.get("acquisitions"), resource.get("waitSeconds"),
+        resource.get("maxWaitSeconds")));
+  }
+
+  /**
+   * Calculates how well the workers were used. Each worker runs one scenario at a time, so its
+   * busy time is the sum of its scenario durations.
+   *
+   * @param runEndNanos The time the run finished.
+   * @return The number of workers, wall time, total idle time, the tail after the first worker ran
+   *     out of scenarios and the parallel efficiency as a percentage.
+   */
+  private Map<String, Object> utilisation(long runEndNanos) {
+    Map<String, Long> busyNanos = new TreeMap<>();
+    Map<String, Long> lastEndNanos = new TreeMap<>();
+    var firstStart = Long.MAX_VALUE;
+    var lastEnd = runStartNanos;
+    for (var scenario : completedScenarios) {
+      busyNanos.merge(scenario.thread(), scenario.endNanos() - scenario.startNanos(), Long::sum);
+      lastEndNanos.merge(scenario.thread(), scenario.endNanos(), Math::max);
+      firstStart = Math.min(firstStart, scenario.startNanos());
+      lastEnd = Math.max(lastEnd, scenario.endNanos());
+    }
+    var workers = busyNanos.size();
+    var wall = workers == 0 ? 0 : lastEnd - Math.min(firstStart, runEndNanos);
+    var busy = busyNanos.values().stream().mapToLong(Long::longValue).sum();
+    var tail = workers == 0 ? 0 : lastEnd - Collections.min(lastEndNanos.values());
+    var utilisation = new LinkedHashMap<String, Object>();
+    utilisation.put("workers", workers);
+    utilisation.put("wallSeconds", wall / 1e9);
+    utilisation.put("idleSeconds", (workers * wall - busy) / 1e9);
+    utilisation.put("tailSeconds", tail / 1e9);
+    utilisation.put("parallelEfficiency", workers == 0 ? 0.0 : busy * 100.0 / (workers * wall));
+    Map<String, Double> idleByWorker = new TreeMap<>();
+    busyNanos.forEach((thread, nanos) -> idleByWorker.put(thread, (wall - nanos) / 1e9));
+    utilisation.put("idleSecondsByWorker", idleByWorker);
+    return utilisation;
+  }
+}
@@ -0,0 +1,41 @@
+package plugins;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+import java.nio.file.Path;
+import metrics.SpanKind;
+import metrics.Timings;
+
+/**
+ * Cucumber plugin which records the duration of every hook as a {@link SpanKind#HOOK} span, and
+ * prints the {@link Timings} table and writes its JSON export to
+ * {@code target/metrics/timings.json} once the run has finished.
+ */
+public class TimingReport implements ConcurrentEventListener {
+
+  private static final Path EXPORT = Path.of("target", "metrics", "timings.json");
+
+  @Override
+  public void setEventPublisher(EventPublisher eventPublisher) {
+    eventPublisher.registerHandlerFor(TestStepFinished.class, this::recordHook);
+    eventPublisher.registerHandlerFor(TestRunFinished.class, this::report);
+  }
+
+  private void recordHook(TestStepFinished event) {
+    if (event.getTestStep() instanceof HookTestStep hook) {
+      var nanos = event.getResult().getDuration().toNanos();
+      Timings.get().record(SpanKind.HOOK, String.format("%s %s", hook.getHookType(),
+          hook.getCodeLocation()), null, System.nanoTime() - nanos, nanos);
+    }
+  }
+
+  private void report(TestRunFinished event) {
+    var timings = Timings.get();
+    System.out.print(timings.report());
+    timings.export(EXPORT);
+    System.out.printf("Timings written to %s%n", EXPORT);
+  }
+}
@@ -0,0 +1,164 @@
+package plugins;
+
+import enums.Configuration;
+import enums.PageDefinition;
+import exceptions.ConfigurationException;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.Argument;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import io.cucumber.plugin.event.TestStepFinished;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+import playwright.interfaces.NavigateTo;
+import playwright.managers.ConfigurationManager;
+import playwright.managers.ConfigurationManager.PropertyHandler;
+import scheduling.InRunRetries;
+import scheduling.ResourceLocks;
+
+/**
+ * Cucumber plugin which checks the wiring of the test suite without running it, intended to be
+ * used with {@code cucumber.execution.dry-run=true}.
+ *
+ * <p>The following are reported as problems:</p>
+ * <ul>
+ *   <li>Configuration which cannot be loaded or converted, required configuration which is
+ *   missing, and properties which do not correspond to any {@link Configuration}.</li>
+ *   <li>Steps which are undefined or match more than one step definition.</li>
+ *   <li>Pages passed to {@value #NAVIGATE_STEP} which are not defined in {@link PageDefinition}
+ *   or cannot be navigated to.</li>
+ *   <li>{@code @StepTimeout_<seconds>} tags without a positive number of seconds.</li>
+ * </ul>
+ */
+public class WiringValidator implements ConcurrentEventListener {
+
+  static final String NAVIGATE_STEP = "I navigate to the {string} page";
+  private static final Queue<String> problems = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Retrieves every problem found during the run, in the order they were found.
+   *
+   * @return The problems.
+   */
+  public static List<String> getProblems() {
+    return List.copyOf(problems);
+  }
+
+  @Override
+  public void setEventPublisher(EventPublisher eventPublisher) {
+    eventPublisher.registerHandlerFor(TestRunStarted.class, event -> validateConfiguration());
+    eventPublisher.registerHandlerFor(TestCaseStarted.class, this::validatePages);
+    eventPublisher.registerHandlerFor(TestCaseStarted.class, this::validateTags);
+    eventPublisher.registerHandlerFor(TestStepFinished.class, this::validateStep);
+    eventPublisher.registerHandlerFor(TestRunFinished.class, this::report);
+  }
+
+  /**
+   * Checks each part of the configuration on its own, so that every problem is reported rather
+   * than only the first.
+   */
+  private void validateConfiguration() {
+    var configuration = validate(() -> ConfigurationManager.get().configuration());
+    if (configuration.isEmpty()) {
+      return;
+    }
+    validateProperties(configuration.get(), "configuration", Configuration.BROWSER);
+    if (isPresent(configuration.get(), Configuration.ENVIRONMENT)) {
+      validate(() -> ConfigurationManager.get().environment()).ifPresent(
+          environment -> validateProperties(environment, "environment", Configuration.BASE_URL));
+    }
+    validate(StepTimeouts::new);
+    validate(ResourceLocks::get);
+    validate(InRunRetries::get);
+  }
+
+  private static void validateProperties(PropertyHandler properties, String kind,
+      Configuration required) {
+    isPresent(properties, required);
+    properties.getUnknownProperties().forEach(property -> problems.add(
+        String.format("Unknown %s property '%s'", kind, property)));
+  }
+
+  private static boolean isPresent(PropertyHandler properties, Configuration required) {
+    if (properties.asString(required) == null) {
+      problems.add(String.format("No configuration value found for %s", required.getProperty()));
+      return false;
+    }
+    return true;
+  }
+
+  private static <T> Optional<T> validate(Supplier<T> check) {
+    try {
+      return Optional.of(check.get());
+    } catch (ConfigurationException e) {
+      problems.add(e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  private void validateTags(TestCaseStarted event) {
+    try {
+      StepTimeouts.forTags(event.getTestCase().getTags());
+    } catch (ConfigurationException e) {
+      problems.add(String.format("%s, at %s:%d", e.getMessage(), event.getTestCase().getUri(),
+          event.getTestCase().getLocation().getLine()));
+    }
+  }
+
+  private void validatePages(TestCaseStarted event) {
+    var testCase = event.getTestCase();
+    for (var testStep : testCase.getTestSteps()) {
+      if (testStep instanceof PickleStepTestStep step && NAVIGATE_STEP.equals(step.getPattern())) {
+        var pageName = unquote(step.getDefinitionArgument().getFirst());
+        PageDefinition.find(pageName).ifPresentOrElse(
+            page -> {
+              if (!page.isInstanceOf(NavigateTo.class)) {
+                problems.add(String.format("Page '%s' cannot be navigated to, at %s", pageName,
+                    location(testCase, step)));
+              }
+            },
+            () -> problems.add(String.format("Undefined page '%s', at %s", pageName,
+                location(testCase, step))));
+      }
+    }
+  }
+
+  private void validateStep(TestStepFinished event) {
+    if (event.getTestStep() instanceof PickleStepTestStep step) {
+      var status = event.getResult().getStatus();
+      if (status == Status.UNDEFINED || status == Status.AMBIGUOUS) {
+        problems.add(String.format("%s step '%s', at %s",
+            status == Status.UNDEFINED ? "Undefined" : "Ambiguous",
+            step.getStep().getText(), location(event.getTestCase(), step)));
+      }
+    }
+  }
+
+  private void report(TestRunFinished event) {
+    if (problems.isEmpty()) {
+      System.out.println("Wiring validation passed");
+      return;
+    }
+    System.err.printf("Wiring validation found %d problems:%n", problems.size());
+    problems.forEach(problem -> System.err.printf("- %s%n", problem));
+  }
+
+  private static String location(TestCase testCase, PickleStepTestStep step) {
+    return String.format("%s:%d", testCase.getUri(), step.getStep().getLine());
+  }
+
+  private static String unquote(Argument argument) {
+    var value = argument.getValue();
+    return value.length() > 1 && (value.startsWith("\"") || value.startsWith("'"))
+        ? value.substring(1, value.length() - 1)
+        : value;
+  }
+}
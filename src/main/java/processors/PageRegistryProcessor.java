@@ -0,0 +1,169 @@
+package processors;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor which generates {@code playwright.pages.PageRegistry}, holding a
+ * constructor reference for every concrete page object extending {@code playwright.pages.BasePage}.
+ *
+ * <p>The registry lets {@code enums.PageDefinition} create page objects without reflection. Page
+ * objects are registered by their public no-argument constructor and, if they have one, their
+ * public constructor taking a single {@link String}. A page object without a public no-argument
+ * constructor fails the build.</p>
+ *
+ * <p>An incremental compile only passes the changed sources to the processor, so the page objects
+ * already compiled into the packages of those sources, and into {@value #REGISTRY_PACKAGE}, are
+ * registered too. A page object the registry still misses is created reflectively by
+ * {@code PageDefinition}.</p>
+ */
+@SupportedAnnotationTypes("*")
+public class PageRegistryProcessor extends AbstractProcessor {
+
+  private static final String BASE_PAGE = "playwright.pages.BasePage";
+  private static final String REGISTRY_PACKAGE = "playwright.pages";
+  private static final String REGISTRY_NAME = "PageRegistry";
+  private boolean generated;
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    var basePage = processingEnv.getElementUtils().getTypeElement(BASE_PAGE);
+    if (generated || basePage == null || roundEnv.processingOver()) {
+      return false;
+    }
+    var elements = processingEnv.getElementUtils();
+    Map<String, TypeElement> pages = new TreeMap<>();
+    Set<PackageElement> packages = new LinkedHashSet<>();
+    packages.add(elements.getPackageElement(REGISTRY_PACKAGE));
+    for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+      packages.add(elements.getPackageOf(type));
+      if (isPageObject(type, basePage)) {
+        pages.put(type.getQualifiedName().toString(), type);
+      }
+    }
+    for (PackageElement compiled : packages) {
+      if (compiled == null) {
+        continue;
+      }
+      for (TypeElement type : ElementFilter.typesIn(compiled.getEnclosedElements())) {
+        if (!pages.containsKey(type.getQualifiedName().toString())
+            && isPageObject(type, basePage)) {
+          pages.put(type.getQualifiedName().toString(), type);
+        }
+      }
+    }
+    write(List.copyOf(pages.values()));
+    generated = true;
+    return false;
+  }
+
+  private boolean isPageObject(TypeElement type, TypeElement basePage) {
+    if (type.getKind() != ElementKind.CLASS
+        || type.getModifiers().contains(Modifier.ABSTRACT)
+        || !type.getModifiers().contains(Modifier.PUBLIC)
+        || !processingEnv.getTypeUtils().isAssignable(type.asType(), basePage.asType())) {
+      return false;
+    }
+    if (!hasConstructor(type, 0)) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+          "Page objects must have a public no-argument constructor", type);
+      return false;
+    }
+    return true;
+  }
+
+  private boolean hasConstructor(TypeElement type, int parameters) {
+    return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+        .filter(constructor -> constructor.getModifiers().contains(Modifier.PUBLIC))
+        .map(ExecutableElement::getParameters)
+        .anyMatch(params -> params.size() == parameters && (parameters == 0
+            || params.getFirst().asType().toString().equals(String.class.getName())));
+  }
+
+  private void write(List<TypeElement> pages) {
+    try (var out = new PrintWriter(processingEnv.getFiler()
+        .createSourceFile(REGISTRY_PACKAGE + "." + REGISTRY_NAME).openWriter())) {
+      out.printf("""
+          package %s;
+
+          import java.util.Map;
+          import java.util.function.Function;
+          import java.util.function.Supplier;
+          import javax.annotation.processing.Generated;
+
+          /**
+           * Constructor references for every page object, generated at build time.
+           */
+          @Generated("%s")
+          public final class %s {
+
+            private static final Map<Class<?>, Supplier<?>> CONSTRUCTORS = Map.ofEntries(
+          %s);
+
+            private static final Map<Class<?>, Function<String, ?>> STRING_CONSTRUCTORS =
+                Map.ofEntries(
+          %s);
+
+            private %s() {
+            }
+
+            /**
+             * Gets the no-argument constructor of a page object.
+             *
+             * @param pageClass The page object class.
+             * @return The constructor, or null if the class is not a registered page object.
+             */
+            public static Supplier<?> constructor(Class<?> pageClass) {
+              return CONSTRUCTORS.get(pageClass);
+            }
+
+            /**
+             * Gets the constructor of a page object taking a single String.
+             *
+             * @param pageClass The page object class.
+             * @return The constructor, or null if the class has no such constructor.
+             */
+            public static Function<String, ?> stringConstructor(Class<?> pageClass) {
+              return STRING_CONSTRUCTORS.get(pageClass);
+            }
+          }
+          """, REGISTRY_PACKAGE, PageRegistryProcessor.class.getName(), REGISTRY_NAME,
+          entries(pages, "Supplier<?>"),
+          entries(pages.stream().filter(page -> hasConstructor(page, 1)).toList(),
+              "Function<String, ?>"),
+          REGISTRY_NAME);
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+          "Unable to generate the page registry: " + e.getMessage());
+    }
+  }
+
+  private static String entries(List<TypeElement> pages, String constructorType) {
+    return String.join(",\n", pages.stream()
+        .map(TypeElement::getQualifiedName)
+        .map(name -> String.format("      Map.<Class<?>, %s>entry(%s.class, %s::new)",
+            constructorType, name, name))
+        .toList());
+  }
+}
@@ -0,0 +1,139 @@
+package scheduling;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import enums.Configuration;
+import exceptions.ConfigurationException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.TreeMap;
+import playwright.managers.ConfigurationManager;
+
+/**
+ * Duration of every scenario in previous runs, keyed by {@link ScenarioKey} and stored in
+ * {@code scenarioDurationHistoryFile}.
+ *
+ * <p>Each entry is an exponentially weighted moving average of the scenario's duration in
+ * milliseconds, so a single slow run moves the estimate without replacing it. Only passing runs are
+ * recorded, as a failing scenario usually ends early.</p>
+ */
+public class DurationHistory {
+
+  private static final double SMOOTHING = 0.3;
+  private final Gson gson = new Gson();
+  private final Path file;
+  private final Map<String, Double> durations;
+
+  private DurationHistory(Path file) {
+    this.file = file;
+    this.durations = read();
+  }
+
+  /**
+   * Loads the duration history from {@code scenarioDurationHistoryFile}.
+   *
+   * @return The duration history, empty if the file does not exist.
+   * @throws ConfigurationException if the file cannot be read.
+   */
+  public static DurationHistory load() {
+    return new DurationHistory(Path.of(ConfigurationManager.get().configuration()
+        .asString(Configuration.SCENARIO_DURATION_HISTORY_FILE, "scenario-durations.json")));
+  }
+
+  /**
+   * Merges the histories saved by the shards of a run into the history they all started from, and
+   * saves the result in place of that history. The shards run disjoint scenarios, so each scenario
+   * takes its duration from the shard whose history changed or added it, and otherwise keeps the
+   * duration it started with.
+   *
+   * @param base   The history every shard started from, which need not exist.
+   * @param shards The histories saved by the shards.
+   * @return The merged history.
+   * @throws ConfigurationException if a history cannot be read or the result cannot be written.
+   */
+  public static DurationHistory merge(Path base, List<Path> shards) {
+    var merged = new DurationHistory(base);
+    var original = Map.copyOf(merged.durations);
+    for (Path shard : shards) {
+      new DurationHistory(shard).durations.forEach((key, duration) -> {
+        if (!Objects.equals(original.get(key), duration)) {
+          merged.durations.put(key, duration);
+        }
+      });
+    }
+    merged.save();
+    return merged;
+  }
+
+  /**
+   * Estimates the duration of a scenario from previous runs.
+   *
+   * @param key The scenario key.
+   * @return The estimated duration in milliseconds, or empty if the scenario has not been seen.
+   */
+  public synchronized OptionalDouble estimate(String key) {
+    var duration = durations.get(key);
+    return duration == null ? OptionalDouble.empty() : OptionalDouble.of(duration);
+  }
+
+  /**
+   * Estimates the duration of a scenario which has not been seen, as the median duration of every
+   * scenario which has.
+   *
+   * @return The estimated duration in milliseconds, or 0 if no scenario has been seen.
+   */
+  public synchronized double fallbackEstimate() {
+    var sorted = durations.values().stream().sorted().toList();
+    return sorted.isEmpty() ? 0 : sorted.get(sorted.size() / 2);
+  }
+
+  /**
+   * Records the duration of a passing scenario.
+   *
+   * @param key      The scenario key.
+   * @param duration The duration of the scenario.
+   */
+  public synchronized void record(String key, Duration duration) {
+    var millis = (double) duration.toMillis();
+    durations.merge(key, millis,
+        (previous, latest) -> previous + SMOOTHING * (latest - previous));
+  }
+
+  /**
+   * Writes the duration history back to its file.
+   *
+   * @throws ConfigurationException if the file cannot be written.
+   */
+  public synchronized void save() {
+    try {
+      if (file.getParent() != null) {
+        Files.createDirectories(file.getParent());
+      }
+      Files.writeString(file, gson.toJson(durations));
+    } catch (IOException e) {
+      throw new ConfigurationException(
+          String.format("Unable to write the scenario duration history %s", file), e);
+    }
+  }
+
+  private Map<String, Double> read() {
+    if (!Files.exists(file)) {
+      return new TreeMap<>();
+    }
+    try {
+      Map<String, Double> stored = gson.fromJson(Files.readString(file),
+          new TypeToken<Map<String, Double>>() {
+          }.getType());
+      return stored == null ? new TreeMap<>() : new TreeMap<>(stored);
+    } catch (IOException e) {
+      throw new ConfigurationException(
+          String.format("Unable to read the scenario duration history %s", file), e);
+    }
+  }
+}
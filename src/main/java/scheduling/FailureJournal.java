@@ -0,0 +1,218 @@
+package scheduling;
+
+import exceptions.ConfigurationException;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Append-only journal of the scenarios which failed during a run, written and flushed as each
+ * scenario finishes so that reruns can start while the run continues, and so that nothing is lost
+ * if the run is killed.
+ *
+ * <p>Each line holds the {@link ScenarioKey} of a failed scenario. The line {@value #END_OF_RUN} is
+ * appended once the run has finished, which tells a {@link Tail} following the journal that no
+ * more failures will arrive. Lines starting with {@code #} are not scenario keys.</p>
+ */
+@SuppressWarnings("java:S6548")
+public class FailureJournal {
+
+  public static final String FILE = "target/failedScenarios.journal";
+  public static final String END_OF_RUN = "# end of run";
+  private static final String COMMENT = "#";
+  private static FailureJournal instance;
+  private final Path file;
+  private BufferedWriter writer;
+
+  private FailureJournal() {
+    file = Shard.current().resolve(Path.of(FILE));
+  }
+
+  /**
+   * Returns the singleton instance of the FailureJournal.
+   *
+   * @return The FailureJournal instance.
+   */
+  public static synchronized FailureJournal get() {
+    if (instance == null) {
+      instance = new FailureJournal();
+    }
+    return instance;
+  }
+
+  /**
+   * Retrieves the journal of this run, {@value #FILE} named after the {@link Shard} when the suite
+   * is sharded.
+   *
+   * @return The path of the journal.
+   */
+  public Path path() {
+    return file;
+  }
+
+  /**
+   * Starts a new journal, replacing the journal of any previous run.
+   *
+   * @throws ConfigurationException if the journal cannot be created.
+   */
+  public synchronized void start() {
+    try {
+      close();
+      Files.createDirectories(file.toAbsolutePath().getParent());
+      Files.deleteIfExists(file);
+      writer = Files.newBufferedWriter(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    } catch (IOException e) {
+      throw new ConfigurationException(String.format("Unable to create %s", file), e);
+    }
+  }
+
+  /**
+   * Appends a failed scenario and flushes it to the journal. Ignored unless the journal has been
+   * started by this process.
+   *
+   * @param key The {@link ScenarioKey} of the failed scenario.
+   * @throws ConfigurationException if the journal cannot be written.
+   */
+  public synchronized void append(String key) {
+    write(key);
+  }
+
+  /**
+   * Marks the end of the run in the journal and closes it.
+   *
+   * @throws ConfigurationException if the journal cannot be written.
+   */
+  public synchronized void finish() {
+    write(END_OF_RUN);
+    try {
+      close();
+    } catch (IOException e) {
+      throw new ConfigurationException(String.format("Unable to close %s", file), e);
+    }
+  }
+
+  private void write(String line) {
+    if (writer == null) {
+      return;
+    }
+    try {
+      writer.write(line);
+      writer.newLine();
+      writer.flush();
+    } catch (IOException e) {
+      throw new ConfigurationException(String.format("Unable to write to %s", file), e);
+    }
+  }
+
+  private void close() throws IOException {
+    if (writer != null) {
+      writer.close();
+      writer = null;
+    }
+  }
+
+  /**
+   * Reads every failed scenario from a journal, whether or not its run has finished.
+   *
+   * @param journal The journal to read.
+   * @return The distinct scenario keys in the order they failed, empty if there is no journal.
+   * @throws ConfigurationException if the journal cannot be read.
+   */
+  public static List<String> read(Path journal) {
+    if (!Files.exists(journal)) {
+      return List.of();
+    }
+    try {
+      return List.copyOf(Files.readAllLines(journal).stream()
+          .filter(FailureJournal::isKey)
+          .map(String::trim)
+          .collect(LinkedHashSet<String>::new, LinkedHashSet::add, LinkedHashSet::addAll));
+    } catch (IOException e) {
+      throw new ConfigurationException(String.format("Unable to read %s", journal), e);
+    }
+  }
+
+  /**
+   * Follows a journal as it is written, possibly by another process.
+   *
+   * @param journal The journal to follow, which need not exist yet.
+   * @return A tail positioned at the start of the journal.
+   */
+  public static Tail tail(Path journal) {
+    return new Tail(journal);
+  }
+
+  private static boolean isKey(String line) {
+    return !line.isBlank() && !line.startsWith(COMMENT);
+  }
+
+  /**
+   * Reads the lines appended to a journal since it was last polled. Only complete lines are read,
+   * so a line which is still being written is picked up by the next poll.
+   */
+  public static final class Tail {
+
+    private final Path journal;
+    private long position;
+    private boolean finished;
+
+    private Tail(Path journal) {
+      this.journal = journal;
+    }
+
+    /**
+     * Reads the failed scenarios appended since the last poll.
+     *
+     * @return The new scenario keys, in the order they failed.
+     * @throws ConfigurationException if the journal cannot be read.
+     */
+    public List<String> poll() {
+      var keys = new ArrayList<String>();
+      if (!Files.exists(journal)) {
+        return keys;
+      }
+      try (var channel = FileChannel.open(journal, StandardOpenOption.READ)) {
+        if (channel.size() < position) {
+          // The journal was started again by a new run
+          position = 0;
+          finished = false;
+        }
+        var buffer = ByteBuffer.allocate((int) (channel.size() - position));
+        channel.read(buffer, position);
+        var text = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+        var end = text.lastIndexOf('\n');
+        if (end < 0) {
+          return keys;
+        }
+        position += text.substring(0, end + 1).getBytes(StandardCharsets.UTF_8).length;
+        for (String line : text.substring(0, end).split("\r?\n")) {
+          if (END_OF_RUN.equals(line.trim())) {
+            finished = true;
+          } else if (isKey(line)) {
+            keys.add(line.trim());
+          }
+        }
+      } catch (IOException e) {
+        throw new ConfigurationException(String.format("Unable to read %s", journal), e);
+      }
+      return keys;
+    }
+
+    /**
+     * Checks whether the end of the run has been read from the journal.
+     *
+     * @return True if no more failures will be appended.
+     */
+    public boolean isFinished() {
+      return finished;
+    }
+  }
+}
@@ -0,0 +1,235 @@
+package scheduling;
+
+import com.google.gson.GsonBuilder;
+import enums.Configuration;
+import exceptions.ConfigurationException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import playwright.managers.ConfigurationManager;
+
+/**
+ * Decides whether a failed scenario is retried straight away, on the same worker with a fresh
+ * browser context, and records every attempt.
+ *
+ * <p>Retries are off unless {@code inRunRetries} is above 0. Only failures caused by one of the
+ * exceptions listed in {@code retryableFailures}, or a subclass of one, are retried; assertion
+ * failures and other genuine defects fail as before. A scenario which passes on a retry is
+ * recovered: it is left out of the {@link FailureJournal} and does not fail a run started by
+ * {@code testrunner.ScheduledTestRunner}, and every attempt is kept in the Cucumber report and in
+ * {@value #ATTEMPTS_FILE}. Runs started by Maven failsafe only see the first attempt, so a
+ * recovered scenario still fails them.</p>
+ */
+@SuppressWarnings("java:S6548")
+public class InRunRetries {
+
+  public static final String ATTEMPTS_FILE = "target/retries.json";
+  private static final String DEFAULT_RETRYABLE_FAILURES = "com.microsoft.playwright.TimeoutError,"
+      + "com.microsoft.playwright.PlaywrightException,exceptions.TimeLimitReachedError";
+  private static InRunRetries instance;
+  private final int retries;
+  private final Set<String> retryableFailures;
+  private final Map<String, List<Attempt>> attempts = new ConcurrentHashMap<>();
+  private final ThreadLocal<Boolean> retrying = ThreadLocal.withInitial(() -> false);
+  private final ThreadLocal<String> deferred = new ThreadLocal<>();
+
+  /**
+   * A single run of a scenario.
+   *
+   * @param attempt   The attempt number, starting at 1.
+   * @param passed    Whether the attempt passed.
+   * @param error     The failure of the attempt, or null if it passed.
+   * @param retryable Whether the failure may be retried.
+   */
+  public record Attempt(int attempt, boolean passed, String error, boolean retryable) {
+  }
+
+  private InRunRetries() {
+    var configuration = ConfigurationManager.get().configuration();
+    retries = configuration.asInteger(Configuration.IN_RUN_RETRIES, 0);
+    if (retries < 0) {
+      throw new ConfigurationException(
+          String.format("inRunRetries must not be negative, but was %d", retries));
+    }
+    retryableFailures = Arrays.stream(configuration.asString(Configuration.RETRYABLE_FAILURES,
+            DEFAULT_RETRYABLE_FAILURES).split(","))
+        .map(String::trim)
+        .filter(name -> !name.isEmpty())
+        .collect(Collectors.toUnmodifiableSet());
+  }
+
+  /**
+   * Returns the singleton instance of the InRunRetries.
+   *
+   * @return The InRunRetries instance.
+   */
+  public static synchronized InRunRetries get() {
+    if (instance == null) {
+      instance = new InRunRetries();
+    }
+    return instance;
+  }
+
+  /**
+   * Checks whether failed scenarios are retried during the run.
+   *
+   * @return True if {@code inRunRetries} is above 0.
+   */
+  public boolean isEnabled() {
+    return retries > 0;
+  }
+
+  /**
+   * Checks whether the failure, or any of its causes, is an instance of a retryable exception.
+   *
+   * @param failure The failure to classify.
+   * @return True if the failure may be retried.
+   */
+  public boolean isRetryable(Throwable failure) {
+    for (var cause = failure; cause != null; cause = cause.getCause()) {
+      for (Class<?> type = cause.getClass(); type != null; type = type.getSuperclass()) {
+        if (retryableFailures.contains(type.getName())) {
+          return true;
+        }
+      }
+      if (cause.getCause() == cause) {
+        break;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks whether a scenario which has just failed should be run again.
+   *
+   * @param attempt The number of the attempt which failed, starting at 1.
+   * @param failure The failure of that attempt.
+   * @return True if retries are enabled, the failure is retryable and retries remain.
+   */
+  public boolean shouldRetry(int attempt, Throwable failure) {
+    return isEnabled() && attempt <= retries && isRetryable(failure);
+  }
+
+  /**
+   * Runs a retry on the current thread, marking the thread as retrying while it runs so that
+   * once-per-run hooks are skipped.
+   *
+   * @param retry The retry to run.
+   */
+  public void runRetry(Runnable retry) {
+    retrying.set(true);
+    try {
+      retry.run();
+    } finally {
+      retrying.remove();
+    }
+  }
+
+  /**
+   * Checks whether the current thread is running a retry.
+   *
+   * @return True if called from within {@link #runRetry(Runnable)}.
+   */
+  public boolean isRetrying() {
+    return retrying.get();
+  }
+
+  /**
+   * Marks the scenario which has just failed on the current thread as left out of the
+   * {@link FailureJournal} until its retries have finished.
+   *
+   * @param key The {@link ScenarioKey} of the scenario.
+   */
+  public void defer(String key) {
+    deferred.set(key);
+  }
+
+  /**
+   * Takes the scenario deferred by {@link #defer(String)} on the current thread, so that whoever
+   * retries it can journal it if the retries fail or cannot be run.
+   *
+   * @return The key of the deferred scenario, or empty if none was deferred.
+   */
+  public Optional<String> takeDeferred() {
+    var key = deferred.get();
+    deferred.remove();
+    return Optional.ofNullable(key);
+  }
+
+  /**
+   * Records the outcome of an attempt of a scenario.
+   *
+   * @param key     The {@link ScenarioKey} of the scenario.
+   * @param attempt The attempt number, starting at 1.
+   * @param failure The failure of the attempt, or null if it passed.
+   */
+  public void record(String key, int attempt, Throwable failure) {
+    attempts.computeIfAbsent(key, ignored -> new ArrayList<>()).add(new Attempt(attempt,
+        failure == null, failure == null ? null : String.valueOf(failure),
+        failure != null && isRetryable(failure)));
+  }
+
+  /**
+   * Checks whether a scenario failed and then passed on a retry.
+   *
+   * @param key The {@link ScenarioKey} of the scenario.
+   * @return True if the latest attempt of a retried scenario passed.
+   */
+  public boolean isRecovered(String key) {
+    var recorded = attempts.get(key);
+    return recorded != null && recorded.size() > 1 && recorded.getLast().passed();
+  }
+
+  /**
+   * Summarises the retried scenarios, how many were recovered and how many still failed.
+   *
+   * @return The summary, or an empty string if nothing was retried.
+   */
+  public String report() {
+    var retried = attempts.entrySet().stream().filter(entry -> entry.getValue().size() > 1)
+        .map(Map.Entry::getKey).toList();
+    if (retried.isEmpty()) {
+      return "";
+    }
+    var recovered = retried.stream().filter(this::isRecovered).count();
+    return String.format("In-run retries: %d scenarios retried, %d recovered, %d still failing%n",
+        retried.size(), recovered, retried.size() - recovered);
+  }
+
+  /**
+   * Writes every attempt of every failed scenario to {@value #ATTEMPTS_FILE}, named after the
+   * {@link Shard} when the suite is sharded.
+   *
+   * @throws ConfigurationException if the file cannot be written.
+   */
+  public void save() {
+    if (attempts.isEmpty()) {
+      return;
+    }
+    var file = Shard.current().resolve(Path.of(ATTEMPTS_FILE));
+    Map<String, Object> export = new TreeMap<>();
+    attempts.forEach((key, recorded) -> {
+      var scenario = new LinkedHashMap<String, Object>();
+      scenario.put("recovered", isRecovered(key));
+      scenario.put("attempts", recorded);
+      export.put(key, scenario);
+    });
+    try {
+      Files.createDirectories(file.getParent());
+      Files.writeString(file, new GsonBuilder().setPrettyPrinting().create().toJson(export));
+    } catch (IOException e) {
+      throw new ConfigurationException(
+          String.format("Unable to write retry attempts to %s", file), e);
+    }
+  }
+}
@@ -0,0 +1,204 @@
+package scheduling;
+
+import enums.Configuration;
+import exceptions.ConfigurationException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import metrics.SpanKind;
+import metrics.Timings;
+import playwright.managers.ConfigurationManager;
+
+/**
+ * Limits how many scenarios using the same resource run at the same time, without holding up
+ * scenarios which do not use it.
+ *
+ * <p>A scenario uses a resource when it, or its feature, is tagged {@code @resource:<name>}, or is
+ * tagged with a name listed in {@code resourceLimits}. Entries of {@code resourceLimits} take the
+ * form {@code <name>=<limit>} and are separated by {@code ;}, for example {@code heavy=2} allows at
+ * most two {@code @heavy} scenarios at once. Resources without a limit allow one scenario at a
+ * time.</p>
+ *
+ * <p>A scenario waits for its resources inside a {@code Before} hook. The wait is managed by the
+ * {@link ForkJoinPool} running the scenario, which may start a spare worker meanwhile so that
+ * scenarios not using the resource keep running.</p>
+ *
+ * <p>Resources are acquired in name order, so scenarios using several resources cannot deadlock.
+ * The time spent waiting is recorded as a {@link SpanKind#RESOURCE_WAIT} span.</p>
+ */
+@SuppressWarnings("java:S6548")
+public class ResourceLocks {
+
+  public static final String TAG_PREFIX = "@resource:";
+  public static final String ISOLATED_TAG = "@isolated";
+  private static final String LIMIT_SEPARATOR = ";";
+  private static final String VALUE_SEPARATOR = "=";
+  private static ResourceLocks instance;
+  private final Map<String, Integer> limits = new TreeMap<>();
+  private final Map<String, Resource> resources = new ConcurrentHashMap<>();
+  private final ThreadLocal<List<Resource>> held = ThreadLocal.withInitial(ArrayList::new);
+
+  private ResourceLocks() {
+    var configuredLimits = ConfigurationManager.get().configuration()
+        .asString(Configuration.RESOURCE_LIMITS, "");
+    for (String limit : configuredLimits.split(LIMIT_SEPARATOR)) {
+      if (limit.isBlank()) {
+        continue;
+      }
+      var separator = limit.lastIndexOf(VALUE_SEPARATOR);
+      int count;
+      try {
+        count = Integer.parseInt(limit.substring(separator + 1).trim());
+      } catch (RuntimeException e) {
+        throw new ConfigurationException(
+            String.format("Invalid resource limit '%s', expected <name>=<limit>", limit), e);
+      }
+      if (count < 1) {
+        throw new ConfigurationException(
+            String.format("Invalid resource limit '%s', the limit must be at least 1", limit));
+      }
+      limits.put(limit.substring(0, separator).trim(), count);
+    }
+  }
+
+  /**
+   * Returns the singleton instance of the ResourceLocks.
+   *
+   * @return The ResourceLocks instance.
+   */
+  public static synchronized ResourceLocks get() {
+    if (instance == null) {
+      instance = new ResourceLocks();
+    }
+    return instance;
+  }
+
+  /**
+   * Waits until every resource used by a scenario is available and acquires it for the current
+   * thread.
+   *
+   * @param tags The tags of the scenario, including those of its feature.
+   * @throws ConfigurationException if the thread is interrupted while waiting.
+   */
+  public void acquire(Collection<String> tags) {
+    var names = new TreeSet<String>();
+    for (String tag : tags) {
+      if (tag.startsWith(TAG_PREFIX)) {
+        names.add(tag.substring(TAG_PREFIX.length()));
+      } else if (limits.containsKey(tag.substring(1))) {
+        names.add(tag.substring(1));
+      }
+    }
+    for (String name : names) {
+      var resource = resources.computeIfAbsent(name,
+          key -> new Resource(limits.getOrDefault(key, 1)));
+      var start = System.nanoTime();
+      try {
+        ForkJoinPool.managedBlock(new PermitBlocker(resource.permits));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ConfigurationException(
+            String.format("Interrupted while waiting for resource %s", name), e);
+      }
+      var waited = System.nanoTime() - start;
+      resource.acquisitions.incrementAndGet();
+      resource.waitNanos.addAndGet(waited);
+      resource.maxWaitNanos.accumulateAndGet(waited, Math::max);
+      held.get().add(resource);
+      Timings.get().record(SpanKind.RESOURCE_WAIT, name, null, start, waited);
+    }
+  }
+
+  /**
+   * Checks whether a tag names a resource shared between scenarios, so that scenarios with it must
+   * not run alongside each other freely: an {@value #TAG_PREFIX}{@code <name>} tag,
+   * {@value #ISOLATED_TAG}, or a tag with a limit in {@code resourceLimits}.
+   *
+   * @param tag The tag, with or without its leading {@code @}.
+   * @return True if the tag names a shared resource.
+   */
+  public boolean isShared(String tag) {
+    var name = tag.startsWith("@") ? tag : "@" + tag;
+    return name.startsWith(TAG_PREFIX) || name.equals(ISOLATED_TAG)
+        || limits.containsKey(name.substring(1));
+  }
+
+  /**
+   * Releases every resource acquired by the current thread.
+   */
+  public void release() {
+    held.get().forEach(resource -> resource.permits.release());
+    held.remove();
+  }
+
+  /**
+   * Summarises the limit of every resource used during the run, how many scenarios acquired it and
+   * how long they waited.
+   *
+   * @return The limit, acquisitions, total and longest wait in seconds of each resource, by name.
+   */
+  public Map<String, Map<String, Object>> report() {
+    Map<String, Map<String, Object>> report = new TreeMap<>();
+    resources.forEach((name, resource) -> {
+      var summary = new LinkedHashMap<String, Object>();
+      summary.put("limit", resource.limit);
+      summary.put("acquisitions", resource.acquisitions.get());
+      summary.put("waitSeconds", resource.waitNanos.get() / 1e9);
+      summary.put("maxWaitSeconds", resource.maxWaitNanos.get() / 1e9);
+      report.put(name, summary);
+    });
+    return report;
+  }
+
+  /**
+   * Acquires a permit, letting a {@link ForkJoinPool} compensate for the worker blocked meanwhile.
+   */
+  private static final class PermitBlocker implements ForkJoinPool.ManagedBlocker {
+
+    private final Semaphore permits;
+    private boolean acquired;
+
+    private PermitBlocker(Semaphore permits) {
+      this.permits = permits;
+    }
+
+    @Override
+    public boolean block() throws InterruptedException {
+      if (!acquired) {
+        permits.acquire();
+        acquired = true;
+      }
+      return true;
+    }
+
+    @Override
+    public boolean isReleasable() {
+      if (!acquired) {
+        acquired = permits.tryAcquire();
+      }
+      return acquired;
+    }
+  }
+
+  private static final class Resource {
+
+    private final int limit;
+    private final Semaphore permits;
+    private final AtomicLong acquisitions = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    private Resource(int limit) {
+      this.limit = limit;
+      this.permits = new Semaphore(limit, true);
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package scheduling;
+
+import io.cucumber.plugin.event.TestCase;
+import java.net.URI;
+import java.net.URISyntaxException;
+
+/**
+ * Formats the key identifying a scenario, or a single example of a scenario outline, by the URI of
+ * its feature and its line. The key is also a valid JUnit platform URI selector, so it can be used
+ * to select the scenario for execution.
+ *
+ * <p>Classpath URIs are written with an absolute path, e.g. {@code classpath:/features/...}, and
+ * file URIs keep their path, e.g. {@code file:/home/features/...}, with the line as the query.</p>
+ */
+public final class ScenarioKey {
+
+  private ScenarioKey() {
+  }
+
+  /**
+   * Creates the key of a scenario.
+   *
+   * @param featureUri The URI of the feature file.
+   * @param line       The line of the scenario or example.
+   * @return The key, e.g. {@code classpath:/features/example.feature?line=5}.
+   * @throws IllegalArgumentException if the URI has no path.
+   */
+  public static String of(URI featureUri, int line) {
+    var path = featureUri.isOpaque()
+        ? "/" + featureUri.getSchemeSpecificPart()
+        : featureUri.getPath();
+    try {
+      return new URI(featureUri.getScheme(), featureUri.getAuthority(), path,
+          String.format("line=%d", line), null).toString();
+    } catch (URISyntaxException e) {
+      throw new IllegalArgumentException(
+          String.format("Unable to create the scenario key of %s", featureUri), e);
+    }
+  }
+
+  /**
+   * Creates the key of a test case.
+   *
+   * @param testCase The test case.
+   * @return The key.
+   */
+  public static String of(TestCase testCase) {
+    return of(testCase.getUri(), testCase.getLocation().getLine());
+  }
+}
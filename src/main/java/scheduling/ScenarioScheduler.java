@@ -0,0 +1,91 @@
+package scheduling;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Orders scenarios longest processing time first, using the durations recorded in a
+ * {@link DurationHistory}.
+ *
+ * <p>Starting the longest scenarios first leaves the short ones to fill the gaps at the end of the
+ * run, so workers finish at roughly the same time instead of one worker running a long scenario
+ * alone at the tail. Scenarios without history are estimated with
+ * {@link DurationHistory#fallbackEstimate()}, and scenarios with equal estimates keep their
+ * discovery order.</p>
+ */
+public class ScenarioScheduler {
+
+  private final DurationHistory history;
+
+  /**
+   * Creates a scheduler using the given duration history.
+   *
+   * @param history The duration history.
+   */
+  public ScenarioScheduler(DurationHistory history) {
+    this.history = history;
+  }
+
+  /**
+   * Estimates the duration of every scenario.
+   *
+   * @param keys The scenario keys, in discovery order.
+   * @return The estimated duration in milliseconds of each scenario, in discovery order.
+   */
+  public Map<String, Double> estimate(List<String> keys) {
+    var fallback = history.fallbackEstimate();
+    Map<String, Double> estimates = new LinkedHashMap<>();
+    keys.forEach(key -> estimates.put(key, history.estimate(key).orElse(fallback)));
+    return estimates;
+  }
+
+  /**
+   * Orders the scenarios longest first.
+   *
+   * @param keys The scenario keys, in discovery order.
+   * @return The scenario keys, longest estimated duration first.
+   */
+  public List<String> longestFirst(List<String> keys) {
+    return estimate(keys).entrySet().stream()
+        .sorted(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder()))
+        .map(Map.Entry::getKey)
+        .toList();
+  }
+
+  /**
+   * Splits the scenarios into the given number of bins with roughly equal estimated duration.
+   *
+   * <p>Scenarios are taken longest first, ties broken by key, and each is placed in the bin with
+   * the lowest total so far, ties broken by bin index. The result depends only on the scenario keys
+   * and the history, not on discovery order, so every shard computes the same partition as long as
+   * they share the same history file. Each scenario is placed in exactly one bin.</p>
+   *
+   * @param keys  The scenario keys.
+   * @param count The number of bins.
+   * @return The bins, each ordered longest first.
+   */
+  public List<List<String>> partition(List<String> keys, int count) {
+    List<List<String>> bins = new ArrayList<>();
+    var totals = new double[count];
+    for (int bin = 0; bin < count; bin++) {
+      bins.add(new ArrayList<>());
+    }
+    estimate(keys).entrySet().stream()
+        .sorted(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder())
+            .thenComparing(Map.Entry.comparingByKey()))
+        .forEach(scenario -> {
+          var lightest = 0;
+          for (int bin = 1; bin < count; bin++) {
+            if (totals[bin] < totals[lightest]) {
+              lightest = bin;
+            }
+          }
+          bins.get(lightest).add(scenario.getKey());
+          totals[lightest] += scenario.getValue();
+        });
+    return bins;
+  }
+}
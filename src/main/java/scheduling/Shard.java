@@ -0,0 +1,79 @@
+package scheduling;
+
+import enums.Configuration;
+import exceptions.ConfigurationException;
+import java.nio.file.Path;
+import playwright.managers.ConfigurationManager;
+
+/**
+ * The slice of the suite run by this process when the suite is split across several agents.
+ *
+ * <p>The shard is configured with {@code shardIndex}, counted from 0, and {@code shardCount}, in
+ * the configuration file or as system properties. Without them the whole suite is a single shard
+ * and every output file keeps its usual name.</p>
+ *
+ * @param index The index of this shard, counted from 0.
+ * @param count The number of shards the suite is split into.
+ */
+public record Shard(int index, int count) {
+
+  /**
+   * Creates a shard.
+   *
+   * @throws ConfigurationException if the count is less than 1 or the index is not within it.
+   */
+  public Shard {
+    if (count < 1 || index < 0 || index >= count) {
+      throw new ConfigurationException(
+          "Invalid shard %d of %d, shardIndex must be at least 0 and less than shardCount",
+          index, count);
+    }
+  }
+
+  /**
+   * Resolves the shard of this process from configuration.
+   *
+   * @return The configured shard.
+   * @throws ConfigurationException if the configured shard is invalid.
+   */
+  public static Shard current() {
+    var configuration = ConfigurationManager.get().configuration();
+    return new Shard(configuration.asInteger(Configuration.SHARD_INDEX, 0),
+        configuration.asInteger(Configuration.SHARD_COUNT, 1));
+  }
+
+  /**
+   * Checks whether the suite is split across more than one shard.
+   *
+   * @return true if there is more than one shard.
+   */
+  public boolean isSharded() {
+    return count > 1;
+  }
+
+  /**
+   * Resolves the path of an output file for this shard, so that the outputs of every shard can be
+   * collected into one place and merged. The shard is appended to the file name, for example
+   * {@code target/failedScenarios.journal} becomes {@code target/failedScenarios-shard-1.journal}.
+   *
+   * @param path The path of the output file.
+   * @return The path for this shard, unchanged if the suite is not sharded.
+   */
+  public Path resolve(Path path) {
+    if (!isSharded()) {
+      return path;
+    }
+    var fileName = path.getFileName().toString();
+    var extension = fileName.lastIndexOf('.');
+    var shardName = extension < 0
+        ? String.format("%s-shard-%d", fileName, index)
+        : String.format("%s-shard-%d%s", fileName.substring(0, extension), index,
+            fileName.substring(extension));
+    return path.resolveSibling(shardName);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("shard %d of %d", index, count);
+  }
+}
@@ -0,0 +1,209 @@
+package utils;
+
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+import com.sun.management.OperatingSystemMXBean;
+import enums.Configuration;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+import playwright.managers.ConfigurationManager;
+
+/**
+ * Parallel execution strategy which sizes the number of workers to the cores and memory of the
+ * machine running the tests.
+ *
+ * <p>Every worker runs its own browser, so the number of workers is the lowest of:</p>
+ * <ul>
+ *   <li>The number of available cores.</li>
+ *   <li>The number of browsers which fit in the available physical memory, less
+ *   {@code memoryReserveMb}. The memory used by one browser is {@code browserMemoryEstimateMb}, or
+ *   with {@code measureBrowserMemory} enabled, measured by launching a browser before the run
+ *   starts.</li>
+ *   <li>{@code maxParallelism}, if set.</li>
+ * </ul>
+ *
+ * <p>With {@code followedByReruns} enabled one worker fewer is used, as the rerunner following the
+ * run is a separate process with its own browser.</p>
+ *
+ * <p>Enabled in {@code junit-platform.properties} with:</p>
+ * <pre>{@code
+ * cucumber.execution.parallel.config.strategy=custom
+ * cucumber.execution.parallel.config.custom.class=utils.AdaptiveParallelism
+ * }</pre>
+ */
+public class AdaptiveParallelism implements ParallelExecutionConfigurationStrategy {
+
+  private static final long MEGABYTE = 1024 * 1024;
+  private static final long MINIMUM_BROWSER_MEMORY_MB = 256;
+  private static final int DEFAULT_BROWSER_MEMORY_MB = 512;
+  private static final int KEEP_ALIVE_SECONDS = 30;
+  private static final int MAX_POOL_SIZE_OFFSET = 256;
+  private static volatile Decision decision;
+
+  /**
+   * The number of workers chosen and why.
+   *
+   * @param parallelism The number of workers.
+   * @param reason      What limited the number of workers.
+   */
+  public record Decision(int parallelism, String reason) {
+
+    @Override
+    public String toString() {
+      return String.format("%d workers, %s", parallelism, reason);
+    }
+  }
+
+  /**
+   * Retrieves the decision made for this run.
+   *
+   * @return The decision, or empty if this strategy has not been used.
+   */
+  public static Optional<Decision> decision() {
+    return Optional.ofNullable(decision);
+  }
+
+  @Override
+  public ParallelExecutionConfiguration createConfiguration(
+      ConfigurationParameters configurationParameters) {
+    var chosen = decide();
+    decision = chosen;
+    var parallelism = chosen.parallelism();
+    return new ParallelExecutionConfiguration() {
+      @Override
+      public int getParallelism() {
+        return parallelism;
+      }
+
+      @Override
+      public int getMinimumRunnable() {
+        return parallelism;
+      }
+
+      @Override
+      public int getMaxPoolSize() {
+        return MAX_POOL_SIZE_OFFSET + parallelism;
+      }
+
+      @Override
+      public int getCorePoolSize() {
+        return parallelism;
+      }
+
+      @Override
+      public int getKeepAliveSeconds() {
+        return KEEP_ALIVE_SECONDS;
+      }
+
+      @Override
+      public Predicate<? super ForkJoinPool> getSaturatePredicate() {
+        return pool -> true;
+      }
+    };
+  }
+
+  /**
+   * Chooses the number of workers from the cores, available memory and configured limits, leaving
+   * one for the rerunner when it follows the run.
+   *
+   * @return The decision.
+   */
+  private static Decision decide() {
+    var sized = size();
+    if (ConfigurationManager.get().configuration()
+        .asFlag(Configuration.FOLLOWED_BY_RERUNS, false) && sized.parallelism() > 1) {
+      return new Decision(sized.parallelism() - 1,
+          String.format("%s, less one for the rerunner following the run", sized.reason()));
+    }
+    return sized;
+  }
+
+  /**
+   * Sizes the workers to the cores, available memory and {@code maxParallelism}.
+   *
+   * @return The decision.
+   */
+  private static Decision size() {
+    var configuration = ConfigurationManager.get().configuration();
+    var cores = Runtime.getRuntime().availableProcessors();
+    var availableMb = availableMemory() / MEGABYTE;
+    var reserveMb = configuration.asInteger(Configuration.MEMORY_RESERVE, 1024);
+    var measured = configuration.asFlag(Configuration.MEASURE_BROWSER_MEMORY, false);
+    var browserMb = measured
+        ? measureBrowserMemory()
+        : Math.max(MINIMUM_BROWSER_MEMORY_MB, configuration.asInteger(
+            Configuration.BROWSER_MEMORY_ESTIMATE, DEFAULT_BROWSER_MEMORY_MB));
+    var memoryBound = (int) Math.max(1, (availableMb - reserveMb) / browserMb);
+    var maxParallelism = configuration.asInteger(Configuration.MAX_PARALLELISM, 0);
+
+    var memory = String.format("%d MB available, %d MB reserved, %d MB per browser %s",
+        availableMb, reserveMb, browserMb, measured ? "measured" : "estimated");
+    if (maxParallelism > 0 && maxParallelism < Math.min(cores, memoryBound)) {
+      return new Decision(maxParallelism, String.format(
+          "capped by maxParallelism (%d cores, %s)", cores, memory));
+    }
+    if (memoryBound < cores) {
+      return new Decision(memoryBound, String.format("memory bound (%s, %d cores)", memory,
+          cores));
+    }
+    return new Decision(cores, String.format("CPU bound (%d cores, %s)", cores, memory));
+  }
+
+  /**
+   * Measures the memory used by a browser, with one page open, and its Playwright driver by
+   * comparing the available memory before and after launching them.
+   *
+   * @return The memory used in megabytes, at least {@value #MINIMUM_BROWSER_MEMORY_MB}.
+   */
+  private static long measureBrowserMemory() {
+    var configuration = ConfigurationManager.get().configuration();
+    var before = availableMemory();
+    long used;
+    try (var playwright = Playwright.create()) {
+      var options = new BrowserType.LaunchOptions()
+          .setHeadless(configuration.asFlag(Configuration.HEADLESS, true));
+      var browserName = configuration.asString(Configuration.BROWSER, "chromium").toLowerCase();
+      var browser = switch (browserName) {
+        case "firefox" -> playwright.firefox().launch(options);
+        case "webkit" -> playwright.webkit().launch(options);
+        default -> playwright.chromium().launch(options);
+      };
+      browser.newContext().newPage().navigate("about:blank");
+      used = (before - availableMemory()) / MEGABYTE;
+      browser.close();
+    }
+    return Math.max(MINIMUM_BROWSER_MEMORY_MB, used);
+  }
+
+  /**
+   * Reads the physical memory available to new processes, preferring {@code MemAvailable} from
+   * {@code /proc/meminfo} as it includes reclaimable caches.
+   *
+   * @return The available memory in bytes.
+   */
+  private static long availableMemory() {
+    var meminfo = Path.of("/proc/meminfo");
+    if (Files.isReadable(meminfo)) {
+      try (var lines = Files.lines(meminfo)) {
+        var available = lines.filter(line -> line.startsWith("MemAvailable:"))
+            .map(line -> line.replaceAll("\\D", ""))
+            .findFirst();
+        if (available.isPresent()) {
+          return Long.parseLong(available.get()) * 1024;
+        }
+      } catch (IOException e) {
+        // Fall back to the free memory reported by the JVM
+      }
+    }
+    return ((OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean())
+        .getFreeMemorySize();
+  }
+}
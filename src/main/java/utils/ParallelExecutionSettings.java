@@ -0,0 +1,89 @@
+package utils;
+
+import exceptions.ConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Reads the Cucumber parallel execution settings from {@code junit-platform.properties}, allowing
+ * each value to be overridden with a system property of the same name.
+ */
+public class ParallelExecutionSettings {
+
+  public static final String PARALLEL_ENABLED = "cucumber.execution.parallel.enabled";
+  public static final String STRATEGY = "cucumber.execution.parallel.config.strategy";
+  public static final String DYNAMIC_FACTOR = "cucumber.execution.parallel.config.dynamic.factor";
+  public static final String FIXED_PARALLELISM =
+      "cucumber.execution.parallel.config.fixed.parallelism";
+  private static final String PROPERTIES_FILE = "junit-platform.properties";
+
+  private final Properties properties = new Properties();
+
+  private ParallelExecutionSettings() {
+    try (InputStream input =
+        ParallelExecutionSettings.class.getClassLoader().getResourceAsStream(PROPERTIES_FILE)) {
+      if (input != null) {
+        properties.load(input);
+      }
+    } catch (IOException e) {
+      throw new ConfigurationException(
+          String.format("There was an error loading the property file %s", PROPERTIES_FILE), e);
+    }
+  }
+
+  /**
+   * Loads the parallel execution settings from the classpath.
+   *
+   * @return The parallel execution settings.
+   */
+  public static ParallelExecutionSettings load() {
+    return new ParallelExecutionSettings();
+  }
+
+  /**
+   * Retrieves a JUnit platform configuration value, system properties take precedence.
+   *
+   * @param key The configuration parameter name.
+   * @return The value, or null if not configured.
+   */
+  public String get(String key) {
+    return System.getProperty(key, properties.getProperty(key));
+  }
+
+  /**
+   * Retrieves a JUnit platform configuration value, returning the default value if not configured.
+   *
+   * @param key          The configuration parameter name.
+   * @param defaultValue The default value.
+   * @return The value, or the default value if not configured.
+   */
+  public String get(String key, String defaultValue) {
+    return Optional.ofNullable(get(key)).orElse(defaultValue);
+  }
+
+  /**
+   * Computes the number of worker threads Cucumber will use, mirroring the fixed and dynamic
+   * strategies of the JUnit platform. For custom strategies, the decision of
+   * {@link AdaptiveParallelism} is used once it has been made, otherwise the number of available
+   * cores.
+   *
+   * @return The number of parallel workers, at least 1.
+   */
+  public int parallelism() {
+    if (!Boolean.parseBoolean(get(PARALLEL_ENABLED))) {
+      return 1;
+    }
+    var cores = Runtime.getRuntime().availableProcessors();
+    return switch (get(STRATEGY, "dynamic").toLowerCase()) {
+      case "fixed" -> Math.max(1, Integer.parseInt(get(FIXED_PARALLELISM, "1")));
+      case "custom" -> AdaptiveParallelism.decision()
+          .map(AdaptiveParallelism.Decision::parallelism)
+          .orElse(cores);
+      default -> Math.max(1, new BigDecimal(get(DYNAMIC_FACTOR, "1"))
+          .multiply(BigDecimal.valueOf(cores)).intValue());
+    };
+  }
+}
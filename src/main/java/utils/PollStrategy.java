@@ -0,0 +1,81 @@
+package utils;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Strategy deciding how long a {@link TimeLimit} pauses between attempts.
+ */
+@FunctionalInterface
+public interface PollStrategy {
+
+  /**
+   * Calculates the pause before the next attempt.
+   *
+   * @param attempt The number of attempts made so far, starting at 1.
+   * @return The pause in nanoseconds.
+   */
+  long nextDelayNanos(int attempt);
+
+  /**
+   * Retries immediately without pausing.
+   *
+   * @return The poll strategy.
+   */
+  static PollStrategy none() {
+    return attempt -> 0;
+  }
+
+  /**
+   * Pauses for the same interval between every attempt.
+   *
+   * @param interval The pause between attempts.
+   * @return The poll strategy.
+   */
+  static PollStrategy fixed(Duration interval) {
+    var intervalNanos = interval.toNanos();
+    return attempt -> intervalNanos;
+  }
+
+  /**
+   * Doubles the pause after every attempt up to a maximum, with full jitter so that parallel
+   * workers retrying the same resource do not retry in lockstep.
+   *
+   * @param initial The pause ceiling after the first attempt.
+   * @param max     The maximum pause ceiling.
+   * @return The poll strategy.
+   */
+  static PollStrategy exponentialBackoff(Duration initial, Duration max) {
+    var initialNanos = initial.toNanos();
+    var maxNanos = max.toNanos();
+    return attempt -> {
+      var shift = Math.min(attempt - 1, 62);
+      var ceiling = initialNanos > (maxNanos >> shift) ? maxNanos : initialNanos << shift;
+      return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    };
+  }
+
+  /**
+   * Polls quickly for a number of attempts, for conditions which usually settle almost
+   * immediately, then falls back to a slower interval.
+   *
+   * @param fast         The pause used for the first attempts.
+   * @param fastAttempts The number of attempts using the fast pause.
+   * @param slow         The pause used for all later attempts.
+   * @return The poll strategy.
+   */
+  static PollStrategy fastThenSlow(Duration fast, int fastAttempts, Duration slow) {
+    var fastNanos = fast.toNanos();
+    var slowNanos = slow.toNanos();
+    return attempt -> attempt <= fastAttempts ? fastNanos : slowNanos;
+  }
+
+  /**
+   * Polls every 50 milliseconds for the first 5 attempts and every 500 milliseconds thereafter.
+   *
+   * @return The poll strategy.
+   */
+  static PollStrategy fastThenSlow() {
+    return fastThenSlow(Duration.ofMillis(50), 5, Duration.ofMillis(500));
+  }
+}
@@ -2,19 +2,28 @@ package utils;
 
 import exceptions.ConfigurationException;
 import exceptions.TimeLimitReachedError;
-import java.time.Clock;
 import java.time.Duration;
-import java.time.Instant;
 import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 
 /**
  * Utility class used to set time limits and check if a time limit has been reached.
+ *
+ * <p>Deadlines are tracked with {@link System#nanoTime()}, so checking the limit is monotonic and
+ * does not allocate. Repeated attempts made through the {@code doWhile} and {@code poll} methods
+ * pause between attempts according to the {@link PollStrategy}, never past the deadline, and make
+ * one final attempt at the deadline before the limit is reported as reached. Pauses sleep the
+ * thread, so that waiting virtual threads release their carrier.</p>
  */
 public class TimeLimit {
 
-  private Instant end;
   private final Duration time;
+  private final long timeNanos;
+  private PollStrategy pollStrategy = PollStrategy.fastThenSlow();
+  private long start;
+  private long end;
+  private int attempts;
+  private long waitedNanos;
 
   /**
    * Create a TimeLimit with a specified {@link Duration}.
@@ -23,6 +32,7 @@ public class TimeLimit {
    */
   public TimeLimit(Duration time) {
     this.time = time;
+    this.timeNanos = time.toNanos();
     reset();
   }
 
@@ -37,10 +47,35 @@ public class TimeLimit {
   }
 
   /**
-   * Resets the timer.
+   * Creates a TimeLimit with the specified duration and poll strategy.
+   *
+   * @param time         The duration to set as the limit.
+   * @param pollStrategy The strategy deciding how long to pause between attempts.
+   * @return A new TimeLimit instance.
+   */
+  public static TimeLimit of(Duration time, PollStrategy pollStrategy) {
+    return new TimeLimit(time).withPollStrategy(pollStrategy);
+  }
+
+  /**
+   * Sets the strategy deciding how long to pause between attempts.
+   *
+   * @param pollStrategy The poll strategy.
+   * @return This TimeLimit.
+   */
+  public TimeLimit withPollStrategy(PollStrategy pollStrategy) {
+    this.pollStrategy = pollStrategy;
+    return this;
+  }
+
+  /**
+   * Resets the timer and its metrics.
    */
   public void reset() {
-    end = Clock.systemDefaultZone().instant().plus(getDuration());
+    start = System.nanoTime();
+    end = start + timeNanos;
+    attempts = 0;
+    waitedNanos = 0;
   }
 
   /**
@@ -49,7 +84,7 @@ public class TimeLimit {
    * @return true if the limit has not yet been reached.
    */
   public boolean timeLeft() {
-    return !end.isBefore(Clock.systemDefaultZone().instant());
+    return remainingNanos() >= 0;
   }
 
   /**
@@ -88,7 +123,8 @@ public class TimeLimit {
   /**
    * Given a {@link Supplier} which supplies a Boolean value, this function will continue to invoke
    * the supplier method until it returns false, or until the time limit has been reached where an
-   * error will be thrown {@link #timeLeftElseThrow()}.
+   * error will be thrown {@link #timeLeftElseThrow()}. Attempts are paused according to the
+   * {@link PollStrategy}.
    *
    * @param method {@link Supplier} which must return a Boolean value. i.e. return true if the
    *               method needs to be called again as X process has not finished or reached the
@@ -96,9 +132,7 @@ public class TimeLimit {
    * @throws TimeLimitReachedError if the time limit has been reached.
    */
   public void doWhileTrue(BooleanSupplier method) throws TimeLimitReachedError {
-    do {
-      timeLeftElseThrow();
-    } while (method.getAsBoolean());
+    repeatWhile(method, true, null);
   }
 
   /**
@@ -112,9 +146,7 @@ public class TimeLimit {
    */
   public void doWhileTrue(BooleanSupplier method, Supplier<Throwable> throwableSupplier)
       throws TimeLimitReachedError {
-    do {
-      timeLeftElseThrow(throwableSupplier);
-    } while (method.getAsBoolean());
+    repeatWhile(method, true, throwableSupplier);
   }
 
   /**
@@ -124,9 +156,7 @@ public class TimeLimit {
    * @throws TimeLimitReachedError if the time limit has been reached.
    */
   public void doWhileFalse(BooleanSupplier method) throws TimeLimitReachedError {
-    do {
-      timeLeftElseThrow();
-    } while (!method.getAsBoolean());
+    repeatWhile(method, false, null);
   }
 
   /**
@@ -140,9 +170,31 @@ public class TimeLimit {
    */
   public void doWhileFalse(BooleanSupplier method, Supplier<Throwable> throwableSupplier)
       throws TimeLimitReachedError {
-    do {
-      timeLeftElseThrow(throwableSupplier);
-    } while (!method.getAsBoolean());
+    repeatWhile(method, false, throwableSupplier);
+  }
+
+  /**
+   * Invokes the method until it no longer returns the repeat value, pausing between attempts.
+   *
+   * @param method            The method to invoke.
+   * @param repeatOn          The value which causes the method to be invoked again.
+   * @param throwableSupplier Optional supplier of the cause of the TimeLimitReachedError.
+   * @throws TimeLimitReachedError if the time limit has been reached.
+   */
+  private void repeatWhile(BooleanSupplier method, boolean repeatOn,
+      Supplier<Throwable> throwableSupplier) throws TimeLimitReachedError {
+    while (true) {
+      attempts++;
+      if (method.getAsBoolean() != repeatOn) {
+        return;
+      }
+      if (throwableSupplier == null) {
+        timeLeftElseThrow();
+      } else {
+        timeLeftElseThrow(throwableSupplier);
+      }
+      pause(pollStrategy);
+    }
   }
 
   /**
@@ -163,28 +215,51 @@ public class TimeLimit {
       Supplier<T> supplier,
       Supplier<Throwable> throwableSupplier)
       throws TimeLimitReachedError {
-    do {
+    return poll(PollStrategy.fixed(pollTime), supplier, throwableSupplier);
+  }
+
+  /**
+   * Given an object supplier this will continue to execute the supplier method, pausing between
+   * each attempt according to the {@link PollStrategy}.
+   *
+   * @param classCast         Class object indicating the type of returned object.
+   * @param supplier          The method to call which will return an object of type T.
+   * @param throwableSupplier A supplier which retrieves the cause of the
+   *                          TimeLimitReachedException.
+   * @param <T>               The type of object being returned.
+   * @return The required object.
+   * @throws TimeLimitReachedError if the time limit has been reached.
+   */
+  public <T> T poll(Class<T> classCast,
+      Supplier<T> supplier,
+      Supplier<Throwable> throwableSupplier)
+      throws TimeLimitReachedError {
+    return poll(pollStrategy, supplier, throwableSupplier);
+  }
+
+  private <T> T poll(PollStrategy strategy,
+      Supplier<T> supplier,
+      Supplier<Throwable> throwableSupplier)
+      throws TimeLimitReachedError {
+    while (true) {
+      attempts++;
       var supplied = supplier.get();
       if (supplied != null) {
         return supplied;
       }
-      wait(pollTime);
-    } while (timeLeftElseThrow(throwableSupplier));
-    return null;
+      timeLeftElseThrow(throwableSupplier);
+      pause(strategy);
+    }
   }
 
   /**
    * Waits for a given duration in the current Thread.
    *
    * @param waitAmount How long to wait (sleep the thread).
+   * @throws ConfigurationException if the thread is interrupted while waiting.
    */
   public void wait(Duration waitAmount) {
-    try {
-      Thread.sleep(waitAmount.toMillis());
-    } catch (InterruptedException e) {
-      Thread.currentThread().interrupt();
-      throw new ConfigurationException("An error occurred while waiting", e);
-    }
+    sleep(waitAmount.toNanos());
   }
 
   /**
@@ -194,6 +269,43 @@ public class TimeLimit {
     wait(getDuration());
   }
 
+  /**
+   * Pauses before the next attempt for as long as the poll strategy requires, without sleeping
+   * past the deadline, so that the final attempt is made at the deadline.
+   *
+   * @param strategy The poll strategy.
+   * @throws ConfigurationException if the thread is interrupted while waiting.
+   */
+  private void pause(PollStrategy strategy) {
+    sleep(Math.min(strategy.nextDelayNanos(attempts), Math.max(remainingNanos(), 0)));
+  }
+
+  /**
+   * Sleeps the current thread for the given number of nanoseconds, split into milliseconds and
+   * nanoseconds so that no {@link Duration} is allocated per pause.
+   *
+   * @param nanos How long to sleep the thread.
+   * @throws ConfigurationException if the thread is interrupted while waiting, with the interrupt
+   *                                flag restored.
+   */
+  private void sleep(long nanos) {
+    var sleepStart = System.nanoTime();
+    try {
+      if (nanos > 0) {
+        Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ConfigurationException("An error occurred while waiting", e);
+    } finally {
+      waitedNanos += System.nanoTime() - sleepStart;
+    }
+  }
+
+  private long remainingNanos() {
+    return end - System.nanoTime();
+  }
+
   /**
    * Gets the duration of this TimeLimit.
    *
@@ -202,4 +314,40 @@ public class TimeLimit {
   public Duration getDuration() {
     return this.time;
   }
+
+  /**
+   * Gets the time remaining until the limit is reached.
+   *
+   * @return The remaining time, negative once the limit has been reached.
+   */
+  public Duration getRemaining() {
+    return Duration.ofNanos(remainingNanos());
+  }
+
+  /**
+   * Gets the number of attempts made since this TimeLimit was created or last reset.
+   *
+   * @return The number of attempts.
+   */
+  public int getAttempts() {
+    return attempts;
+  }
+
+  /**
+   * Gets the total time spent waiting since this TimeLimit was created or last reset.
+   *
+   * @return The time spent waiting.
+   */
+  public Duration getTimeWaited() {
+    return Duration.ofNanos(waitedNanos);
+  }
+
+  /**
+   * Gets the time elapsed since this TimeLimit was created or last reset.
+   *
+   * @return The elapsed time.
+   */
+  public Duration getElapsed() {
+    return Duration.ofNanos(System.nanoTime() - start);
+  }
 }
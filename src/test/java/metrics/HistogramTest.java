@@ -0,0 +1,87 @@
+package metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class HistogramTest {
+
+  @Test
+  void eachValueBelowSixtyFourHasItsOwnBucket() {
+    for (long micros = 0; micros < 64; micros++) {
+      assertEquals(micros, Histogram.index(micros));
+      assertEquals(micros, Histogram.midpoint(Histogram.index(micros)));
+    }
+  }
+
+  @Test
+  void logBucketsFollowOnFromTheLinearBuckets() {
+    assertEquals(64, Histogram.index(64));
+    assertEquals(64, Histogram.index(65));
+    assertEquals(65, Histogram.index(66));
+    assertEquals(95, Histogram.index(127));
+    assertEquals(96, Histogram.index(128));
+    assertEquals(96, Histogram.index(131));
+    assertEquals(97, Histogram.index(132));
+  }
+
+  @Test
+  void bucketsIncreaseWithoutGaps() {
+    var previous = Histogram.index(0);
+    for (long micros = 1; micros < 1 << 20; micros++) {
+      var index = Histogram.index(micros);
+      assertTrue(index == previous || index == previous + 1, "Gap at " + micros);
+      previous = index;
+    }
+    assertEquals(Histogram.index(Long.MAX_VALUE - 1), Histogram.index(Long.MAX_VALUE));
+  }
+
+  @Test
+  void midpointIsWithinThreePercentOfTheValue() {
+    for (long micros = 64; micros < 1L << 40; micros = micros * 3 / 2 + 1) {
+      var midpoint = Histogram.midpoint(Histogram.index(micros));
+      assertTrue(Math.abs(midpoint - micros) <= micros * 0.03,
+          String.format("%d reported as %d", micros, midpoint));
+    }
+  }
+
+  @Test
+  void percentileIsZeroWhenNothingIsRecorded() {
+    assertEquals(0, new Histogram().percentile(50));
+  }
+
+  @Test
+  void percentileUsesTheNearestRank() {
+    var histogram = new Histogram();
+    for (int micros = 1; micros <= 50; micros++) {
+      histogram.record(micros * 1_000L);
+    }
+    assertEquals(1, histogram.percentile(0));
+    assertEquals(1, histogram.percentile(2));
+    assertEquals(2, histogram.percentile(2.1));
+    assertEquals(25, histogram.percentile(50));
+    assertEquals(48, histogram.percentile(95));
+    assertEquals(50, histogram.percentile(100));
+  }
+
+  @Test
+  void percentileIsNeverAboveTheMaximum() {
+    var histogram = new Histogram();
+    histogram.record(100_000);
+    assertEquals(100, histogram.getMaxMicros());
+    assertEquals(100, histogram.percentile(99));
+    assertTrue(Histogram.midpoint(Histogram.index(100)) > 100);
+  }
+
+  @Test
+  void recordsTheCountTotalAndMaximum() {
+    var histogram = new Histogram();
+    histogram.record(1_500_000);
+    histogram.record(500_000);
+    histogram.record(-1);
+    assertEquals(3, histogram.getCount());
+    assertEquals(2_000, histogram.getTotalMicros());
+    assertEquals(1_500, histogram.getMaxMicros());
+  }
+}
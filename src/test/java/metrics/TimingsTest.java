@@ -0,0 +1,72 @@
+package metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import loggers.LogContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TimingsTest {
+
+  @TempDir
+  Path directory;
+
+  @AfterEach
+  void endScenario() {
+    LogContext.endScenario();
+  }
+
+  @Test
+  void namesBeyondTheLimitShareOneHistogram() throws IOException {
+    var timings = new Timings("chromium");
+    var names = new ArrayList<String>();
+    timings.addListener(span -> names.add(span.name()));
+    for (int i = 0; i < Timings.MAX_NAMES_PER_KIND + 10; i++) {
+      timings.record(SpanKind.ACTION, "Clicked row " + i, null, 0, 1_000_000);
+    }
+    timings.record(SpanKind.WAIT, "page wait", null, 0, 1_000_000);
+
+    var spans = export(timings).getAsJsonArray("spans");
+    assertEquals(Timings.MAX_NAMES_PER_KIND + 2, spans.size());
+    var other = spans.asList().stream().map(JsonElement::getAsJsonObject)
+        .filter(span -> Timings.OTHER_NAME.equals(span.get("name").getAsString()))
+        .toList();
+    assertEquals(1, other.size());
+    assertEquals(10, other.getFirst().get("count").getAsLong());
+    assertEquals("Clicked row " + (Timings.MAX_NAMES_PER_KIND + 9),
+        names.get(Timings.MAX_NAMES_PER_KIND + 9));
+  }
+
+  @Test
+  void scenarioTotalsAreKeyedByScenarioKey() throws IOException {
+    var timings = new Timings("chromium");
+    for (String key : List.of("classpath:/features/a.feature?line=3",
+        "classpath:/features/a.feature?line=9")) {
+      LogContext.startScenario(key, key, "Same name");
+      timings.record(SpanKind.NAVIGATION, "navigate", "Home", 0, 2_000_000);
+      LogContext.endScenario();
+    }
+
+    var totals = export(timings).getAsJsonObject("scenarioTotalMicros");
+    assertEquals(2, totals.size());
+    assertTrue(totals.has("classpath:/features/a.feature?line=3"));
+    assertEquals(2_000, totals.getAsJsonObject("classpath:/features/a.feature?line=9")
+        .get("NAVIGATION").getAsLong());
+  }
+
+  private JsonObject export(Timings timings) throws IOException {
+    var file = directory.resolve("timings.json");
+    timings.export(file);
+    return JsonParser.parseString(Files.readString(file)).getAsJsonObject();
+  }
+}
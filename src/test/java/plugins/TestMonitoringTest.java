@@ -0,0 +1,170 @@
+package plugins;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.cucumber.plugin.event.EventHandler;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.HookType;
+import io.cucumber.plugin.event.Location;
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestStep;
+import io.cucumber.plugin.event.TestStepStarted;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TestMonitoringTest {
+
+  private static final Duration LIMIT = Duration.ofMillis(200);
+  private static final Duration HANG = Duration.ofSeconds(3);
+  private final Map<Class<?>, List<EventHandler<?>>> handlers = new ConcurrentHashMap<>();
+
+  @BeforeEach
+  void registerPlugin() {
+    new TestMonitoring(LIMIT).setEventPublisher(new EventPublisher() {
+      @Override
+      public <T> void registerHandlerFor(Class<T> eventType, EventHandler<T> handler) {
+        handlers.computeIfAbsent(eventType, type -> new ArrayList<>()).add(handler);
+      }
+
+      @Override
+      public <T> void removeHandlerFor(Class<T> eventType, EventHandler<T> handler) {
+        handlers.getOrDefault(eventType, new ArrayList<>()).remove(handler);
+      }
+    });
+  }
+
+  @Test
+  void hungScenarioTimesOutAfterBeforeHooks() throws InterruptedException {
+    var interrupted = runScenario(
+        hook(HookType.BEFORE, "stepdefinitions.Hooks.acquireResources(io.cucumber.java.Scenario)"),
+        hook(HookType.BEFORE, "stepdefinitions.Hooks.start(io.cucumber.java.Scenario)"));
+    assertTrue(interrupted, "The hung scenario was not interrupted after its time limit");
+  }
+
+  @Test
+  void afterHooksAreNotInterrupted() throws InterruptedException {
+    var interrupted = runScenario(
+        hook(HookType.BEFORE, "stepdefinitions.Hooks.start(io.cucumber.java.Scenario)"),
+        hook(HookType.AFTER, "stepdefinitions.Hooks.releaseResources()"));
+    assertFalse(interrupted, "The After hook was interrupted");
+  }
+
+  /**
+   * Starts the given steps of a scenario on a new thread, which then hangs for longer than the
+   * time limit.
+   *
+   * @return true if the hung thread was interrupted.
+   */
+  private boolean runScenario(TestStep... steps) throws InterruptedException {
+    var interrupted = new AtomicBoolean();
+    var worker = Thread.ofPlatform().start(() -> {
+      var testCase = testCase();
+      publish(new TestCaseStarted(Instant.now(), testCase));
+      for (TestStep step : steps) {
+        publish(new TestStepStarted(Instant.now(), testCase, step));
+      }
+      try {
+        Thread.sleep(HANG);
+      } catch (InterruptedException e) {
+        interrupted.set(true);
+      }
+      publish(new TestCaseFinished(Instant.now(), testCase,
+          new Result(Status.PASSED, Duration.ZERO, null)));
+    });
+    worker.join();
+    return interrupted.get();
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> void publish(T event) {
+    handlers.getOrDefault(event.getClass(), List.of())
+        .forEach(handler -> ((EventHandler<T>) handler).receive(event));
+  }
+
+  private static HookTestStep hook(HookType type, String codeLocation) {
+    var id = UUID.randomUUID();
+    return new HookTestStep() {
+      @Override
+      public HookType getHookType() {
+        return type;
+      }
+
+      @Override
+      public String getCodeLocation() {
+        return codeLocation;
+      }
+
+      @Override
+      public UUID getId() {
+        return id;
+      }
+    };
+  }
+
+  private static TestCase testCase() {
+    var id = UUID.randomUUID();
+    return new TestCase() {
+      @Override
+      @SuppressWarnings("deprecation")
+      public Integer getLine() {
+        return 1;
+      }
+
+      @Override
+      public Location getLocation() {
+        return new Location(1, 1);
+      }
+
+      @Override
+      public String getKeyword() {
+        return "Scenario";
+      }
+
+      @Override
+      public String getName() {
+        return "Hung scenario";
+      }
+
+      @Override
+      @SuppressWarnings("deprecation")
+      public String getScenarioDesignation() {
+        return "hung.feature:1 # Hung scenario";
+      }
+
+      @Override
+      public List<String> getTags() {
+        return List.of();
+      }
+
+      @Override
+      public List<TestStep> getTestSteps() {
+        return List.of();
+      }
+
+      @Override
+      public URI getUri() {
+        return URI.create("classpath:features/hung.feature");
+      }
+
+      @Override
+      public UUID getId() {
+        return id;
+      }
+    };
+  }
+}
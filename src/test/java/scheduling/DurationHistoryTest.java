@@ -0,0 +1,47 @@
+package scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.OptionalDouble;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DurationHistoryTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void mergeKeepsTheUpdatesOfEveryShard() throws IOException {
+    var base = write("base.json", "{\"a:1\":100.0,\"b:1\":200.0,\"c:1\":300.0}");
+    var first = write("shard-0.json", "{\"a:1\":150.0,\"b:1\":200.0,\"c:1\":300.0}");
+    var second = write("shard-1.json",
+        "{\"a:1\":100.0,\"b:1\":250.0,\"c:1\":300.0,\"d:1\":400.0}");
+
+    var merged = DurationHistory.merge(base, List.of(first, second));
+
+    assertEquals(OptionalDouble.of(150.0), merged.estimate("a:1"));
+    assertEquals(OptionalDouble.of(250.0), merged.estimate("b:1"));
+    assertEquals(OptionalDouble.of(300.0), merged.estimate("c:1"));
+    assertEquals(OptionalDouble.of(400.0), merged.estimate("d:1"));
+  }
+
+  @Test
+  void mergeReplacesTheBaseHistory() throws IOException {
+    var base = directory.resolve("missing.json");
+    var shard = write("shard-0.json", "{\"a:1\":150.0}");
+
+    DurationHistory.merge(base, List.of(shard));
+
+    assertEquals(OptionalDouble.of(150.0),
+        DurationHistory.merge(base, List.of()).estimate("a:1"));
+  }
+
+  private Path write(String name, String json) throws IOException {
+    return Files.writeString(directory.resolve(name), json);
+  }
+}
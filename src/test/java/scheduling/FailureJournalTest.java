@@ -0,0 +1,90 @@
+package scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FailureJournalTest {
+
+  private static final String FIRST = "classpath:/features/a.feature?line=3";
+  private static final String SECOND = "classpath:/features/b.feature?line=7";
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void missingJournalHasNoFailures() {
+    var tail = FailureJournal.tail(directory.resolve("failedScenarios.journal"));
+
+    assertEquals(List.of(), tail.poll());
+    assertFalse(tail.isFinished());
+  }
+
+  @Test
+  void partialLastLineIsReadOnceComplete() throws IOException {
+    var journal = directory.resolve("failedScenarios.journal");
+    var tail = FailureJournal.tail(journal);
+
+    append(journal, FIRST + "\n" + SECOND.substring(0, 20));
+    assertEquals(List.of(FIRST), tail.poll());
+    assertEquals(List.of(), tail.poll());
+
+    append(journal, SECOND.substring(20) + "\n");
+    assertEquals(List.of(SECOND), tail.poll());
+  }
+
+  @Test
+  void endMarkerFinishesTheTail() throws IOException {
+    var journal = directory.resolve("failedScenarios.journal");
+    var tail = FailureJournal.tail(journal);
+
+    append(journal, FIRST + "\n");
+    assertEquals(List.of(FIRST), tail.poll());
+    assertFalse(tail.isFinished());
+
+    append(journal, SECOND + "\r\n" + FailureJournal.END_OF_RUN + "\n");
+    assertEquals(List.of(SECOND), tail.poll());
+    assertTrue(tail.isFinished());
+  }
+
+  @Test
+  void endMarkerIsOnlyReadOnceComplete() throws IOException {
+    var journal = directory.resolve("failedScenarios.journal");
+    var tail = FailureJournal.tail(journal);
+
+    append(journal, FIRST + "\n" + FailureJournal.END_OF_RUN);
+    assertEquals(List.of(FIRST), tail.poll());
+    assertFalse(tail.isFinished());
+
+    append(journal, "\n");
+    assertEquals(List.of(), tail.poll());
+    assertTrue(tail.isFinished());
+  }
+
+  @Test
+  void restartedJournalIsReadFromTheStart() throws IOException {
+    var journal = directory.resolve("failedScenarios.journal");
+    var tail = FailureJournal.tail(journal);
+    append(journal, FIRST + "\n" + SECOND + "\n" + FailureJournal.END_OF_RUN + "\n");
+    assertEquals(List.of(FIRST, SECOND), tail.poll());
+    assertTrue(tail.isFinished());
+
+    Files.delete(journal);
+    append(journal, SECOND + "\n");
+
+    assertEquals(List.of(SECOND), tail.poll());
+    assertFalse(tail.isFinished());
+  }
+
+  private static void append(Path journal, String text) throws IOException {
+    Files.writeString(journal, text, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+  }
+}
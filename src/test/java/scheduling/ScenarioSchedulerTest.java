@@ -0,0 +1,58 @@
+package scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ScenarioSchedulerTest {
+
+  private static final List<String> KEYS = List.of("a:1", "b:1", "c:1", "d:1", "e:1", "f:1",
+      "g:1", "h:1", "i:1", "j:1");
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void partitionDoesNotDependOnDiscoveryOrder() throws IOException {
+    var scheduler = scheduler();
+    var shuffled = new ArrayList<>(KEYS);
+    Collections.shuffle(shuffled, new Random(7));
+
+    assertEquals(scheduler.partition(KEYS, 3), scheduler.partition(shuffled, 3));
+    assertEquals(scheduler.partition(KEYS, 3), scheduler.partition(KEYS.reversed(), 3));
+  }
+
+  @Test
+  void partitionPlacesEveryScenarioInExactlyOneBin() throws IOException {
+    for (int count = 1; count <= KEYS.size() + 1; count++) {
+      var bins = scheduler().partition(KEYS, count);
+
+      assertEquals(count, bins.size());
+      var union = bins.stream().flatMap(List::stream).sorted().toList();
+      assertEquals(KEYS, union);
+    }
+  }
+
+  @Test
+  void partitionBalancesTheEstimatedDurations() throws IOException {
+    var bins = scheduler().partition(KEYS, 2);
+
+    assertEquals(List.of("a:1", "d:1", "h:1", "j:1", "f:1"), bins.get(0));
+    assertEquals(List.of("b:1", "c:1", "g:1", "i:1", "e:1"), bins.get(1));
+  }
+
+  private ScenarioScheduler scheduler() throws IOException {
+    // Scenarios g to j have no history, so are estimated at the median of 500 and ordered by key
+    var history = Files.writeString(directory.resolve("history.json"),
+        "{\"a:1\":900.0,\"b:1\":700.0,\"c:1\":500.0,\"d:1\":500.0,\"e:1\":300.0,\"f:1\":100.0}");
+    return new ScenarioScheduler(DurationHistory.merge(history, List.of()));
+  }
+}
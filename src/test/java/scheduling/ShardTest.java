@@ -0,0 +1,41 @@
+package scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import exceptions.ConfigurationException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+
+class ShardTest {
+
+  @Test
+  void unshardedPathsAreUnchanged() {
+    var path = Path.of("target/failedScenarios.journal");
+
+    assertEquals(path, new Shard(0, 1).resolve(path));
+  }
+
+  @Test
+  void shardIsAppendedBeforeTheExtension() {
+    assertEquals(Path.of("target/failedScenarios-shard-1.journal"),
+        new Shard(1, 3).resolve(Path.of("target/failedScenarios.journal")));
+    assertEquals(Path.of("target/cucumber-report/cucumber-rerun-2-shard-0.json"),
+        new Shard(0, 2).resolve(Path.of("target/cucumber-report/cucumber-rerun-2.json")));
+  }
+
+  @Test
+  void shardIsAppendedToNamesWithoutAnExtension() {
+    assertEquals(Path.of("target/durations-shard-2"),
+        new Shard(2, 3).resolve(Path.of("target/durations")));
+    assertEquals(Path.of("timeline-shard-0.json"),
+        new Shard(0, 2).resolve(Path.of("timeline.json")));
+  }
+
+  @Test
+  void invalidShardsAreRejected() {
+    assertThrows(ConfigurationException.class, () -> new Shard(0, 0));
+    assertThrows(ConfigurationException.class, () -> new Shard(-1, 2));
+    assertThrows(ConfigurationException.class, () -> new Shard(2, 2));
+  }
+}
@@ -13,7 +13,7 @@ public class CommonSteps {
 
   @Given("I navigate to the {string} page")
   public void navigateToThePage(String pageName) {
-    PageManager.instance().getPage(pageName).as(NavigateTo.class).navigateTo();
+    PageManager.instance().getPage(pageName, NavigateTo.class).navigateTo();
   }
 
 }
@@ -5,10 +5,11 @@ import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertTha
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import org.junit.jupiter.api.Assertions;
+import playwright.managers.ScenarioManager;
 import playwright.pages.ExamplePage;
+import scheduling.FailureJournal;
+import scheduling.ScenarioKey;
 
 @SuppressWarnings({"checkstyle:MissingJavadocMethod", "checkstyle:MissingJavadocType"})
 public class ExampleSteps {
@@ -31,7 +32,9 @@ public class ExampleSteps {
   
   @Given("I should only pass on a retry")
   public void shouldOnlyPassOnRetry() {
-    if (Files.exists(Path.of("target/failedScenarios.txt"))) {
+    var scenario = ScenarioManager.get().getCurrentScenario();
+    var key = ScenarioKey.of(scenario.getUri(), scenario.getLine());
+    if (FailureJournal.read(FailureJournal.get().path()).contains(key)) {
       return;
     }
     Assertions.fail("First time running so we fail");
@@ -6,10 +6,18 @@ import io.cucumber.java.AfterAll;
 import io.cucumber.java.Before;
 import io.cucumber.java.BeforeAll;
 import io.cucumber.java.Scenario;
+import loggers.AsyncLogWriter;
 import loggers.FileLogger;
+import metrics.events.FlightRecording;
 import playwright.managers.ConfigurationManager;
+import playwright.managers.PageManager;
 import playwright.managers.PlaywrightManager;
 import playwright.managers.ScenarioManager;
+import playwright.navigation.PageLoadRecorder;
+import playwright.navigation.PerformanceGate;
+import scheduling.InRunRetries;
+import scheduling.ResourceLocks;
+import utils.ParallelExecutionSettings;
 
 /**
  * Class containing Cucumber hooks for setup and teardown actions.
@@ -17,12 +25,33 @@ import playwright.managers.ScenarioManager;
 public class Hooks {
 
   /**
-   * Sets up PlaywrightManager before all scenarios.
+   * Sets up PlaywrightManager before all scenarios, starting a flight recording and pre-warming a
+   * Playwright instance and browser for each parallel worker if enabled. Skipped when a failed
+   * scenario is being retried, as the run is already set up.
    */
   @BeforeAll
   public static void setup() {
-    PlaywrightManager.startPlaywright(
-        ConfigurationManager.get().configuration().asRequiredString(Configuration.BROWSER));
+    if (InRunRetries.get().isRetrying()) {
+      return;
+    }
+    var configuration = ConfigurationManager.get().configuration();
+    if (configuration.asFlag(Configuration.FLIGHT_RECORDING, false)) {
+      FlightRecording.start();
+    }
+    PlaywrightManager.startPlaywright(configuration.asRequiredString(Configuration.BROWSER));
+    if (configuration.asFlag(Configuration.PREWARM_WORKERS, false)) {
+      PlaywrightManager.perform().prewarm(ParallelExecutionSettings.load().parallelism());
+    }
+  }
+
+  /**
+   * Waits for and acquires the resources the scenario uses, before any other hook runs.
+   *
+   * @param scenario CucumberScenario
+   */
+  @Before(order = 0)
+  public static void acquireResources(Scenario scenario) {
+    ResourceLocks.get().acquire(scenario.getSourceTagNames());
   }
 
   /**
@@ -36,6 +65,16 @@ public class Hooks {
     ScenarioManager.get().setScenario(scenario);
   }
 
+  /**
+   * Fails or warns on the scenario if any page it visited breached its performance budget or
+   * regressed against the baseline. Runs before {@link #afterScenario(Scenario)} so that a failure
+   * is reflected in the attachments.
+   */
+  @After(order = 20000)
+  public void checkPerformance(Scenario scenario) {
+    PerformanceGate.get().endScenario(scenario);
+  }
+
   /**
    * Performs cleanup actions after each scenario. Will pass the completed scenario to the scenario
    * manager to perform tidy up actions.
@@ -45,15 +84,35 @@ public class Hooks {
     FileLogger.log().info("Test Complete");
     ScenarioManager.get().endScenario(scenario);
     PlaywrightManager.perform().endTest();
+    PageManager.instance().shutdown();
     FileLogger.instance().shutdown();
   }
 
   /**
-   * Tears down PlaywrightManager after all scenarios.
+   * Releases the resources acquired by the scenario, after every other hook has run.
+   */
+  @After(order = 0)
+  public void releaseResources() {
+    ResourceLocks.get().release();
+  }
+
+  /**
+   * Tears down PlaywrightManager after all scenarios. Skipped when a failed scenario is being
+   * retried, as the rest of the run still needs it.
    */
   @AfterAll
   public static void tearDown() {
+    if (InRunRetries.get().isRetrying()) {
+      return;
+    }
     PlaywrightManager.perform().shutdown();
+    System.out.print(PageLoadRecorder.instance().report());
+    PageLoadRecorder.instance().close();
+    PerformanceGate.get().saveBaseline();
+    System.out.print(InRunRetries.get().report());
+    InRunRetries.get().save();
+    AsyncLogWriter.get().shutdown();
+    FlightRecording.stop();
   }
 
 }
@@ -1,71 +1,207 @@
 package testrunner;
 
+import static io.cucumber.junit.platform.engine.Constants.GLUE_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PLUGIN_PROPERTY_NAME;
+
+import enums.Configuration;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
+import loggers.AsyncLogWriter;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.engine.TestExecutionResult.Status;
+import org.junit.platform.engine.TestTag;
 import org.junit.platform.engine.discovery.DiscoverySelectors;
-import org.junit.platform.engine.discovery.UriSelector;
+import org.junit.platform.launcher.EngineFilter;
 import org.junit.platform.launcher.Launcher;
-import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherConfig;
 import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
 import org.junit.platform.launcher.core.LauncherFactory;
 import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
 import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import playwright.managers.ConfigurationManager;
+import playwright.managers.PlaywrightManager;
+import scheduling.FailureJournal;
+import scheduling.InRunRetries;
+import scheduling.ResourceLocks;
+import scheduling.Shard;
 
 /**
- * Custom test runner for rerunning failed Cucumber tests.
+ * Custom test runner for rerunning failed Cucumber tests, as recorded in the
+ * {@link FailureJournal}.
+ *
+ * <p>By default the failed scenarios of a finished run are rerun together. With the
+ * {@value #FOLLOW} argument the journal is followed while the run is still in progress, and each
+ * batch of failures is rerun as soon as it is appended, so the reruns overlap the rest of the run
+ * rather than following it. The rerunner stops once the run has marked the end of the journal and
+ * every failure has been rerun.</p>
+ *
+ * <p>The rerunner is a separate process, so it cannot see the resources held by the run's
+ * scenarios. Failures of scenarios using a shared resource, see {@link ResourceLocks#isShared},
+ * are held back until the run has finished. The run should be started with
+ * {@code followedByReruns} so that it leaves a worker's share of the machine to the rerunner.</p>
+ *
+ * <p>Each rerun writes its own Cucumber JSON report, next to that of the run, and leaves the
+ * journal, duration history and other outputs of the run untouched.</p>
  */
 public class CucumberTestRerunner {
 
+  static final String FOLLOW = "--follow";
   private static final Logger logger = LoggerFactory.getLogger(CucumberTestRerunner.class);
+  private static final Duration POLL_INTERVAL = Duration.ofSeconds(2);
 
   /**
    * Main method to execute the rerun of failed Cucumber tests.
    *
-   * @param args Command line arguments (not used).
-   * @throws IOException If an I/O error occurs.
+   * @param args {@value #FOLLOW} to follow the journal of a run in progress.
+   * @throws IOException          If an I/O error occurs.
+   * @throws InterruptedException If interrupted while waiting for failures.
    */
-  public static void main(String[] args) throws IOException {
-    var retryFile = Path.of("target/failedScenarios.txt");
-    if (!Files.exists(retryFile)) {
-      logger.info(() -> "No retry file has been found");
+  public static void main(String[] args) throws IOException, InterruptedException {
+    var journal = FailureJournal.get().path();
+    if (Arrays.asList(args).contains(FOLLOW)) {
+      System.exit(follow(journal) > 0 ? Status.FAILED.ordinal() : Status.SUCCESSFUL.ordinal());
+    }
+
+    if (!Files.exists(journal)) {
+      logger.info(() -> "No failure journal has been found");
       return;
     }
 
     cleanUpDirectories("target/logs", "target/trace");
 
-    List<UriSelector> selectors = Files.readAllLines(retryFile).stream()
-        .map(DiscoverySelectors::selectUri)
-        .toList();
-
-    if (selectors.isEmpty()) {
+    var keys = FailureJournal.read(journal);
+    if (keys.isEmpty()) {
       logger.info(() -> "No failed tests found which require retest");
       return;
     }
 
-    logger.info(() -> String.format("Found %d tests requiring a rerun", selectors.size()));
-
-    LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
-        .selectors(selectors)
-        .build();
+    logger.info(() -> String.format("Found %d tests requiring a rerun", keys.size()));
 
     Launcher launcher = LauncherFactory.create();
     SummaryGeneratingListener listener = new SummaryGeneratingListener();
     launcher.registerTestExecutionListeners(listener);
-    launcher.execute(request);
+    launcher.execute(request(keys, 1).build());
 
     TestExecutionSummary summary = listener.getSummary();
     System.exit(
         summary.getTotalFailureCount() > 0 ? Status.FAILED.ordinal() : Status.SUCCESSFUL.ordinal());
   }
 
+  /**
+   * Follows the journal, rerunning each batch of failures on this thread as soon as it is
+   * appended, until the end of the run is read.
+   *
+   * <p>The batches share one Playwright instance and browser, started here, so the once-per-run
+   * hooks are skipped for each batch as they are for an in-run retry.</p>
+   *
+   * @param journal The journal to follow, which need not exist yet.
+   * @return The number of reruns which failed.
+   * @throws InterruptedException If interrupted while waiting for failures.
+   */
+  private static long follow(Path journal) throws InterruptedException {
+    logger.info(() -> String.format("Following %s for failed scenarios", journal));
+    var tail = FailureJournal.tail(journal);
+    var rerun = new HashSet<String>();
+    var held = new ArrayList<String>();
+    var batch = 0;
+    var failures = 0L;
+    var launcher = LauncherFactory.create(LauncherConfig.builder()
+        .enableTestExecutionListenerAutoRegistration(false)
+        .build());
+    PlaywrightManager.startPlaywright(
+        ConfigurationManager.get().configuration().asRequiredString(Configuration.BROWSER));
+    try {
+      while (true) {
+        var keys = new ArrayList<>(tail.poll().stream().filter(rerun::add).toList());
+        if (tail.isFinished()) {
+          keys.addAll(held);
+          held.clear();
+        } else {
+          var shared = usingSharedResources(launcher, keys);
+          keys.removeAll(shared);
+          held.addAll(shared);
+        }
+        if (!keys.isEmpty()) {
+          batch++;
+          logger.info(() -> String.format("Rerunning %d failed tests while the run continues",
+              keys.size()));
+          var request = request(keys, batch)
+              .configurationParameter(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "false")
+              .build();
+          var listener = new SummaryGeneratingListener();
+          InRunRetries.get().runRetry(() -> launcher.execute(request, listener));
+          failures += listener.getSummary().getTotalFailureCount();
+        } else if (tail.isFinished()) {
+          break;
+        } else {
+          Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+      }
+    } finally {
+      PlaywrightManager.perform().shutdown();
+      AsyncLogWriter.get().shutdown();
+    }
+    var total = rerun.size();
+    var failed = failures;
+    logger.info(() -> String.format("Reran %d failed tests, %d failed again", total, failed));
+    return failures;
+  }
+
+  /**
+   * Finds the scenarios which use a shared resource, and so may not be rerun while the run is
+   * still in progress.
+   *
+   * @param launcher The launcher to discover the scenarios with.
+   * @param keys     The keys of the scenarios.
+   * @return The keys of the scenarios using a shared resource.
+   */
+  private static Set<String> usingSharedResources(Launcher launcher, List<String> keys) {
+    var shared = new HashSet<String>();
+    if (keys.isEmpty()) {
+      return shared;
+    }
+    var plan = launcher.discover(request(keys, 0).build());
+    var locks = ResourceLocks.get();
+    plan.getRoots().forEach(root -> plan.getDescendants(root).stream()
+        .filter(TestIdentifier::isTest)
+        .filter(test -> test.getTags().stream().map(TestTag::getName).anyMatch(locks::isShared))
+        .forEach(test -> test.getSource().flatMap(ScheduledTestRunner::scenarioKey)
+            .ifPresent(shared::add)));
+    return shared;
+  }
+
+  /**
+   * Builds a request to rerun the given scenarios, writing the Cucumber JSON report to
+   * {@code target/cucumber-report/cucumber-rerun-<batch>.json}, named after the {@link Shard}.
+   *
+   * @param keys  The keys of the scenarios to rerun.
+   * @param batch The number of the rerun, naming its report.
+   * @return The request builder.
+   */
+  private static LauncherDiscoveryRequestBuilder request(List<String> keys, int batch) {
+    var report = Shard.current().resolve(Path.of(String.format(
+        "target/cucumber-report/cucumber-rerun-%d.json", batch)));
+    return LauncherDiscoveryRequestBuilder.request()
+        .selectors(keys.stream().map(DiscoverySelectors::selectUri).toList())
+        .filters(EngineFilter.includeEngines("cucumber"))
+        .configurationParameter(GLUE_PROPERTY_NAME, "stepdefinitions")
+        .configurationParameter(PLUGIN_PROPERTY_NAME, String.format("%s,pretty,json:%s",
+            InRunRetryListener.RETRY_PLUGINS, report.toString().replace('\\', '/')));
+  }
+
   /**
    * Cleans up the specified directories by deleting their contents.
    *
@@ -0,0 +1,58 @@
+package testrunner;
+
+import static io.cucumber.junit.platform.engine.Constants.EXECUTION_DRY_RUN_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.GLUE_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PLUGIN_PROPERTY_NAME;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.TestExecutionResult.Status;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.EngineFilter;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import plugins.WiringValidator;
+
+/**
+ * Validates the wiring of every feature without launching a browser.
+ *
+ * <p>All features are run as a Cucumber dry run, which resolves every step against the glue but
+ * executes neither steps nor hooks, with the {@link WiringValidator} plugin in place of the usual
+ * plugins. The process exits with a non-zero status if any problem was found.</p>
+ */
+public class DryRunValidator {
+
+  private static final Logger logger = LoggerFactory.getLogger(DryRunValidator.class);
+
+  /**
+   * Main method to validate the wiring of all features.
+   *
+   * @param args Command line arguments (not used).
+   */
+  public static void main(String[] args) {
+    LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+        .selectors(DiscoverySelectors.selectClasspathResource("features"))
+        .filters(EngineFilter.includeEngines("cucumber"))
+        .configurationParameter(GLUE_PROPERTY_NAME, "stepdefinitions")
+        .configurationParameter(EXECUTION_DRY_RUN_PROPERTY_NAME, "true")
+        .configurationParameter(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "false")
+        .configurationParameter(PLUGIN_PROPERTY_NAME, WiringValidator.class.getName())
+        .build();
+
+    Launcher launcher = LauncherFactory.create();
+    SummaryGeneratingListener listener = new SummaryGeneratingListener();
+    launcher.registerTestExecutionListeners(listener);
+    launcher.execute(request);
+
+    var problems = WiringValidator.getProblems().size();
+    var failures = listener.getSummary().getTotalFailureCount();
+    logger.info(() -> String.format("Validated %d scenarios, %d problems, %d failures",
+        listener.getSummary().getTestsFoundCount(), problems, failures));
+    System.exit(problems > 0 || failures > 0
+        ? Status.FAILED.ordinal() : Status.SUCCESSFUL.ordinal());
+  }
+}
@@ -0,0 +1,35 @@
+package testrunner;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import scheduling.DurationHistory;
+
+/**
+ * Merges the scenario duration histories saved by the shards of a run into the history they were
+ * partitioned with, so that the updates of every shard are kept, see
+ * {@link DurationHistory#merge(Path, java.util.List)}.
+ */
+public class DurationHistoryMerger {
+
+  private static final Logger logger = LoggerFactory.getLogger(DurationHistoryMerger.class);
+
+  /**
+   * Main method to merge the shard histories.
+   *
+   * @param args The history the shards started from, which is replaced by the merged history,
+   *             followed by the history saved by each shard.
+   */
+  public static void main(String[] args) {
+    if (args.length < 1) {
+      throw new IllegalArgumentException(
+          "Usage: DurationHistoryMerger <base history> [<shard history>...]");
+    }
+    var base = Path.of(args[0]);
+    var shards = Arrays.stream(args, 1, args.length).map(Path::of).toList();
+    DurationHistory.merge(base, shards);
+    logger.info(() -> String.format("Merged %d shard duration histories into %s", shards.size(),
+        base));
+  }
+}
@@ -0,0 +1,136 @@
+package testrunner;
+
+import static io.cucumber.junit.platform.engine.Constants.EXECUTION_DRY_RUN_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.GLUE_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PLUGIN_PROPERTY_NAME;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestExecutionResult.Status;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.EngineFilter;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import scheduling.FailureJournal;
+import scheduling.InRunRetries;
+import scheduling.Shard;
+
+/**
+ * Retries a scenario straight after it fails, when {@link InRunRetries} classifies the failure as
+ * retryable, rather than leaving it for the rerun at the end of the run.
+ *
+ * <p>The Cucumber engine has no retry extension point, so the retry is a nested launcher run of
+ * just that scenario, on the worker thread which ran it. The worker's Playwright instance and
+ * browser are reused, while the browser context and page are new because they are closed at the
+ * end of every scenario. The retry writes its own Cucumber JSON report, next to that of the main
+ * run, so the report shows every attempt.</p>
+ *
+ * <p>Registered through {@code META-INF/services}, so it applies to every launcher run of the
+ * suite, and does nothing for dry runs or when {@code inRunRetries} is 0.</p>
+ */
+public class InRunRetryListener implements TestExecutionListener {
+
+  static final String RETRY_PLUGINS =
+      "plugins.StepLogContext,plugins.TestMonitoring,plugins.FlightRecorderEvents";
+  private static final Logger logger = LoggerFactory.getLogger(InRunRetryListener.class);
+  private static final AtomicInteger retryRuns = new AtomicInteger();
+  private volatile boolean dryRun;
+
+  @Override
+  public void testPlanExecutionStarted(TestPlan testPlan) {
+    dryRun = testPlan.getConfigurationParameters()
+        .getBoolean(EXECUTION_DRY_RUN_PROPERTY_NAME).orElse(false);
+  }
+
+  @Override
+  public void executionFinished(TestIdentifier testIdentifier,
+      TestExecutionResult testExecutionResult) {
+    var retries = InRunRetries.get();
+    if (dryRun || retries.isRetrying() || !retries.isEnabled() || !testIdentifier.isTest()) {
+      return;
+    }
+    var deferred = retries.takeDeferred();
+    if (testExecutionResult.getStatus() != Status.FAILED) {
+      return;
+    }
+    var key = testIdentifier.getSource().flatMap(ScheduledTestRunner::scenarioKey);
+    if (key.isEmpty()) {
+      // Without a key the scenario cannot be selected again, so journal what RerunMonitor deferred
+      deferred.ifPresent(FailureJournal.get()::append);
+      return;
+    }
+    retry(key.get(), testExecutionResult.getThrowable().orElseGet(() ->
+        new IllegalStateException(String.format("%s failed without a cause", key.get()))));
+  }
+
+  /**
+   * Runs the scenario again until it passes, fails with a failure which is not retryable, or the
+   * configured number of retries is used up, recording the outcome of every attempt. A scenario
+   * which is still failing is appended to the {@link FailureJournal}, as {@code RerunMonitor}
+   * leaves retried scenarios out of it.
+   *
+   * @param key     The key of the scenario which failed.
+   * @param failure The failure of the first attempt.
+   */
+  private void retry(String key, Throwable failure) {
+    var retries = InRunRetries.get();
+    var attempt = 1;
+    var retried = retries.shouldRetry(attempt, failure);
+    retries.record(key, attempt, failure);
+    while (failure != null && retries.shouldRetry(attempt, failure)) {
+      attempt++;
+      var number = attempt;
+      var cause = failure.getClass().getName();
+      logger.info(() -> String.format("Retrying %s, attempt %d, after %s", key, number, cause));
+      failure = runAgain(key);
+      retries.record(key, attempt, failure);
+    }
+    if (retried && failure != null) {
+      FailureJournal.get().append(key);
+    }
+  }
+
+  /**
+   * Runs a single scenario in a nested launcher on the current thread.
+   *
+   * @param key The key of the scenario to run.
+   * @return The failure of the scenario, or null if it passed.
+   */
+  private Throwable runAgain(String key) {
+    var report = Shard.current().resolve(Path.of(String.format(
+        "target/cucumber-report/cucumber-retry-%d.json", retryRuns.incrementAndGet())));
+    LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+        .selectors(DiscoverySelectors.selectUri(key))
+        .filters(EngineFilter.includeEngines("cucumber"))
+        .configurationParameter(GLUE_PROPERTY_NAME, "stepdefinitions")
+        .configurationParameter(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "false")
+        .configurationParameter(PLUGIN_PROPERTY_NAME, String.format("%s,json:%s", RETRY_PLUGINS,
+            report.toString().replace('\\', '/')))
+        .build();
+
+    var launcher = LauncherFactory.create(LauncherConfig.builder()
+        .enableTestExecutionListenerAutoRegistration(false)
+        .build());
+    SummaryGeneratingListener listener = new SummaryGeneratingListener();
+    InRunRetries.get().runRetry(() -> launcher.execute(request, listener));
+
+    var summary = listener.getSummary();
+    if (!summary.getFailures().isEmpty()) {
+      return summary.getFailures().getFirst().getException();
+    }
+    if (summary.getTestsSucceededCount() == 0) {
+      return new IllegalStateException(String.format("Retry of %s did not run it", key));
+    }
+    return null;
+  }
+}
@@ -0,0 +1,220 @@
+package testrunner;
+
+import static io.cucumber.junit.platform.engine.Constants.GLUE_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PLUGIN_PROPERTY_NAME;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.TestExecutionResult.Status;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.support.descriptor.ClasspathResourceSource;
+import org.junit.platform.engine.support.descriptor.FilePosition;
+import org.junit.platform.engine.support.descriptor.FileSource;
+import org.junit.platform.launcher.EngineFilter;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TagFilter;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import scheduling.DurationHistory;
+import scheduling.InRunRetries;
+import scheduling.ScenarioKey;
+import scheduling.ScenarioScheduler;
+import scheduling.Shard;
+import utils.ParallelExecutionSettings;
+
+/**
+ * Test runner which runs every feature, or this agent's {@link Shard} of them, with the longest
+ * scenarios first.
+ *
+ * <p>The scenarios are discovered as usual, filtered by the JUnit tag expressions in the
+ * {@code groups} and {@code excludedGroups} system properties, then ordered by the
+ * {@link ScenarioScheduler} using the durations recorded by {@code plugins.DurationRecorder} in
+ * previous runs, and executed through a {@link DiscoverySelectors#selectUri(String) URI selector}
+ * per scenario in that order.</p>
+ *
+ * <p>The order is only approximately kept: Cucumber groups the selected scenarios under their
+ * features, in the order each feature was first selected, and runs the scenarios of a feature in
+ * file order, while the JUnit ForkJoin executor runs the tasks a worker queued itself last in,
+ * first out. Features with a long scenario therefore start early, but not strictly longest first.
+ * How closely the run followed the plan is logged at the end of the run, as the number of
+ * scenarios which had started by the time every one of the longest, one per worker, had
+ * started.</p>
+ *
+ * <p>When the suite is sharded, the scenarios are partitioned into {@code shardCount} bins of
+ * roughly equal duration and only the bin of {@code shardIndex} is run. The report files written
+ * by the Cucumber plugins are named after the shard so that they can be merged afterwards.</p>
+ *
+ * <p>Scenarios which failed but were recovered by an {@link InRunRetryListener in-run retry} do
+ * not fail the run.</p>
+ */
+public class ScheduledTestRunner {
+
+  private static final Logger logger = LoggerFactory.getLogger(ScheduledTestRunner.class);
+
+  /**
+   * Main method to run every feature with the longest scenarios first.
+   *
+   * @param args Command line arguments (not used).
+   */
+  public static void main(String[] args) {
+    Launcher launcher = LauncherFactory.create();
+    var discovery = LauncherDiscoveryRequestBuilder.request()
+        .selectors(DiscoverySelectors.selectClasspathResource("features"))
+        .filters(EngineFilter.includeEngines("cucumber"))
+        .configurationParameter(GLUE_PROPERTY_NAME, "stepdefinitions");
+    Optional.ofNullable(System.getProperty("groups")).filter(tags -> !tags.isBlank())
+        .ifPresent(tags -> discovery.filters(TagFilter.includeTags(tags)));
+    Optional.ofNullable(System.getProperty("excludedGroups")).filter(tags -> !tags.isBlank())
+        .ifPresent(tags -> discovery.filters(TagFilter.excludeTags(tags)));
+    var testPlan = launcher.discover(discovery.build());
+
+    var history = DurationHistory.load();
+    var scheduler = new ScenarioScheduler(history);
+    var shard = Shard.current();
+    var ordered = shard.isSharded()
+        ? scheduler.partition(scenarioKeys(testPlan), shard.count()).get(shard.index())
+        : scheduler.longestFirst(scenarioKeys(testPlan));
+    logger.info(() -> String.format("Scheduling %d scenarios of %s longest first, %d without "
+            + "history", ordered.size(), shard,
+        ordered.stream().filter(key -> history.estimate(key).isEmpty()).count()));
+
+    if (ordered.isEmpty()) {
+      logger.info(() -> "No scenarios found to run");
+      return;
+    }
+
+    LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+        .selectors(ordered.stream().map(DiscoverySelectors::selectUri).toList())
+        .filters(EngineFilter.includeEngines("cucumber"))
+        .configurationParameter(GLUE_PROPERTY_NAME, "stepdefinitions")
+        .configurationParameter(PLUGIN_PROPERTY_NAME, shardPlugins(
+            ParallelExecutionSettings.load().get(PLUGIN_PROPERTY_NAME, ""), shard))
+        .build();
+
+    SummaryGeneratingListener listener = new SummaryGeneratingListener();
+    List<String> started = Collections.synchronizedList(new ArrayList<>());
+    launcher.registerTestExecutionListeners(listener, new TestExecutionListener() {
+      @Override
+      public void executionStarted(TestIdentifier testIdentifier) {
+        if (testIdentifier.isTest()) {
+          testIdentifier.getSource().flatMap(ScheduledTestRunner::scenarioKey)
+              .ifPresent(started::add);
+        }
+      }
+    });
+    launcher.execute(request);
+    reportStartOrder(ordered, started, ParallelExecutionSettings.load().parallelism());
+
+    var failures = listener.getSummary().getFailures().stream()
+        .filter(failure -> failure.getTestIdentifier().getSource()
+            .flatMap(ScheduledTestRunner::scenarioKey)
+            .map(key -> !InRunRetries.get().isRecovered(key))
+            .orElse(true))
+        .count();
+    System.exit(failures > 0 ? Status.FAILED.ordinal() : Status.SUCCESSFUL.ordinal());
+  }
+
+  /**
+   * Logs how closely the start order of the run followed the planned longest first order.
+   *
+   * @param ordered     The scenario keys in the planned order.
+   * @param started     The scenario keys in the order they started.
+   * @param parallelism The number of workers.
+   */
+  private static void reportStartOrder(List<String> ordered, List<String> started,
+      int parallelism) {
+    var longest = ordered.subList(0, Math.min(parallelism, ordered.size()));
+    var startedBy = startedBy(longest, started);
+    logger.info(() -> String.format("The %d longest scenarios had all started after %d scenarios "
+        + "had started, %d if started strictly longest first", longest.size(), startedBy,
+        longest.size()));
+  }
+
+  /**
+   * Counts how many scenarios had started by the time every one of the given scenarios had.
+   *
+   * @param scenarios The scenario keys to look for.
+   * @param started   The scenario keys in the order they started.
+   * @return The number of scenarios started, or the number of all started scenarios if one of the
+   *         given scenarios never started.
+   */
+  private static int startedBy(List<String> scenarios, List<String> started) {
+    var positions = scenarios.stream().mapToInt(started::indexOf).toArray();
+    return Arrays.stream(positions).anyMatch(position -> position < 0)
+        ? started.size()
+        : Arrays.stream(positions).max().orElse(-1) + 1;
+  }
+
+  /**
+   * Collects the key of every discovered scenario, in discovery order.
+   *
+   * @param testPlan The discovered test plan.
+   * @return The scenario keys.
+   */
+  static List<String> scenarioKeys(TestPlan testPlan) {
+    return testPlan.getRoots().stream()
+        .flatMap(root -> testPlan.getDescendants(root).stream())
+        .filter(TestIdentifier::isTest)
+        .map(TestIdentifier::getSource)
+        .flatMap(Optional::stream)
+        .map(ScheduledTestRunner::scenarioKey)
+        .flatMap(Optional::stream)
+        .toList();
+  }
+
+  /**
+   * Names every file written by a Cucumber plugin after the shard, for example
+   * {@code json:target/cucumber-report/cucumber.json} becomes
+   * {@code json:target/cucumber-report/cucumber-shard-1.json}.
+   *
+   * @param plugins The configured plugins, separated by commas.
+   * @param shard   The shard being run.
+   * @return The plugins with their output files named after the shard.
+   */
+  static String shardPlugins(String plugins, Shard shard) {
+    return Arrays.stream(plugins.split(","))
+        .map(String::trim)
+        .map(plugin -> {
+          var separator = plugin.indexOf(':');
+          return separator < 0
+              ? plugin
+              : plugin.substring(0, separator + 1)
+                  + shard.resolve(Path.of(plugin.substring(separator + 1))).toString()
+                      .replace('\\', '/');
+        })
+        .collect(Collectors.joining(","));
+  }
+
+  /**
+   * Builds the key of the scenario a test source points to.
+   *
+   * @param source The source of a discovered or executed scenario.
+   * @return The scenario key, or empty if the source has no line.
+   */
+  static Optional<String> scenarioKey(TestSource source) {
+    if (source instanceof ClasspathResourceSource resource) {
+      return resource.getPosition().map(position -> ScenarioKey.of(
+          URI.create("classpath:" + resource.getClasspathResourceName()),
+          position.getLine()));
+    }
+    if (source instanceof FileSource file) {
+      return file.getPosition().map(FilePosition::getLine)
+          .map(line -> ScenarioKey.of(file.getFile().toURI(), line));
+    }
+    return Optional.empty();
+  }
+}
@@ -0,0 +1,60 @@
+package utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import exceptions.ConfigurationException;
+import exceptions.TimeLimitReachedError;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TimeLimitTest {
+
+  private static final Duration LIMIT = Duration.ofMillis(200);
+
+  @AfterEach
+  void clearInterrupt() {
+    Thread.interrupted();
+  }
+
+  @Test
+  void finalAttemptIsMadeAtTheDeadline() {
+    var limit = TimeLimit.of(LIMIT, PollStrategy.fixed(Duration.ofSeconds(10)));
+    var lastAttempt = new AtomicLong();
+    var start = System.nanoTime();
+
+    assertThrows(TimeLimitReachedError.class, () -> limit.doWhileFalse(() -> {
+      lastAttempt.set(System.nanoTime());
+      return false;
+    }));
+
+    assertEquals(2, limit.getAttempts());
+    assertTrue(lastAttempt.get() - start >= LIMIT.toNanos());
+  }
+
+  @Test
+  void conditionMetAtTheDeadlineSucceeds() {
+    var limit = TimeLimit.of(LIMIT, PollStrategy.fixed(Duration.ofSeconds(10)));
+
+    var result = limit.poll(String.class, () -> limit.getAttempts() == 1 ? null : "ready",
+        () -> null);
+
+    assertEquals("ready", result);
+    assertEquals(2, limit.getAttempts());
+  }
+
+  @Test
+  void interruptIsPropagatedAndTheFlagRestored() {
+    var limit = TimeLimit.of(LIMIT);
+    Thread.currentThread().interrupt();
+
+    var error = assertThrows(ConfigurationException.class, () -> limit.wait(LIMIT));
+
+    assertInstanceOf(InterruptedException.class, error.getCause());
+    assertTrue(Thread.currentThread().isInterrupted());
+  }
+}